@@ -0,0 +1,30 @@
+package com.dev.trackify_backend.benchmark;
+
+import com.dev.trackify_backend.status.InMemoryPresenceStore;
+import com.dev.trackify_backend.status.PresenceStatus;
+import com.dev.trackify_backend.status.PresenceStore;
+
+/** 벤치마크 공용 픽스처 */
+final class BenchmarkFixtures {
+    private BenchmarkFixtures() {}
+
+    static String userCode(int i) {
+        return "bench" + i;
+    }
+
+    static PresenceStatus.Presence presence(String userCode, double lat, double lng) {
+        return PresenceStatus.Presence.builder()
+                .userCode(userCode)
+                .userName(userCode)
+                .lat(lat).lng(lng)
+                .working(false)
+                .lastMsgAt(System.currentTimeMillis())
+                .lastPingRtt(12)
+                .build();
+    }
+
+    // Redis 없이 쓰는 메모리 저장소(trackify.presence.store=memory와 같은 구현)
+    static PresenceStore memoryStore() {
+        return new InMemoryPresenceStore();
+    }
+}
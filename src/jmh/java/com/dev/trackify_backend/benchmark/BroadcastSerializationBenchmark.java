@@ -0,0 +1,62 @@
+package com.dev.trackify_backend.benchmark;
+
+import com.dev.trackify_backend.dto.response.stomp.RespStompUserDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/** 브로드캐스트 1건의 변환 비용 비교
+ * perRecipient: 수신자마다 MessageConverter 실행(기존 convertAndSendToUser)
+ * serializeOnce: 1회 변환 후 payload 공유, 수신자별로 헤더만 복사(PresenceBroadcaster)
+ * */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BroadcastSerializationBenchmark {
+    @Param({"1000", "10000"})
+    public int sessions;
+
+    private MappingJackson2MessageConverter converter;
+    private RespStompUserDto payload;
+
+    @Setup
+    public void setUp() {
+        converter = new MappingJackson2MessageConverter();
+        converter.setObjectMapper(new ObjectMapper().findAndRegisterModules());
+        payload = RespStompUserDto.from(BenchmarkFixtures.presence("bench001", 37.5665, 126.9780));
+    }
+
+    @Benchmark
+    public void perRecipient(Blackhole bh) {
+        for (int i = 0; i < sessions; i++) {
+            Message<?> message = converter.toMessage(payload, null);
+            bh.consume(withDestination(message, i));
+        }
+    }
+
+    @Benchmark
+    public void serializeOnce(Blackhole bh) {
+        Message<?> message = converter.toMessage(payload, null);
+        for (int i = 0; i < sessions; i++) {
+            bh.consume(withDestination(message, i));
+        }
+    }
+
+    // SimpMessagingTemplate.doSend와 같은 방식으로 수신자별 destination 헤더를 붙임
+    private static Message<?> withDestination(Message<?> message, int i) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        accessor.setDestination("/user/" + BenchmarkFixtures.userCode(i) + "/queue/events");
+        accessor.setMessageTypeIfNotSet(SimpMessageType.MESSAGE);
+        return MessageBuilder.createMessage(message.getPayload(), accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,30 @@
+package com.dev.trackify_backend.benchmark;
+
+import com.dev.trackify_backend.util.GeoUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/** 좌표 계산(거리/이동) 비용 측정 > updateLocation 스로틀 판정, 샘플 이동에서 매 틱 호출 */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GeoBenchmark {
+    private double lat = 37.5665;
+    private double lng = 126.9780;
+    private double bearing = 45.0;
+
+    @Benchmark
+    public double haversineMeters() {
+        return GeoUtil.haversineMeters(lat, lng, lat + 0.0001, lng + 0.0001);
+    }
+
+    @Benchmark
+    public double[] moveFrom() {
+        bearing = (bearing + 5.0) % 360.0;
+        return GeoUtil.moveFrom(lat, lng, 8.0, bearing);
+    }
+}
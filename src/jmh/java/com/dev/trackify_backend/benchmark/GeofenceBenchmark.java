@@ -0,0 +1,39 @@
+package com.dev.trackify_backend.benchmark;
+
+import com.dev.trackify_backend.status.GeofenceIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/** 위치 틱 1건당 지오펜스 판정 비용(화물지 수 별) > updateLocation 핫패스 추가 지연 */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GeofenceBenchmark {
+    @Param({"100", "10000"})
+    public int sites;
+
+    private GeofenceIndex index;
+
+    @Setup
+    public void setUp() {
+        ThreadLocalRandom r = ThreadLocalRandom.current();
+        List<GeofenceIndex.Site> list = new ArrayList<>(sites);
+        for (int i = 0; i < sites; i++) {
+            list.add(new GeofenceIndex.Site(i, "cargo" + i, 34.5 + r.nextDouble() * 3.5, 126.3 + r.nextDouble() * 3.0, 150));
+        }
+        index = new GeofenceIndex(list);
+    }
+
+    @Benchmark
+    public GeofenceIndex.Site find() {
+        ThreadLocalRandom r = ThreadLocalRandom.current();
+        return index.find(34.5 + r.nextDouble() * 3.5, 126.3 + r.nextDouble() * 3.0);
+    }
+}
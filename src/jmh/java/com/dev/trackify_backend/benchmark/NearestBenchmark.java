@@ -0,0 +1,48 @@
+package com.dev.trackify_backend.benchmark;
+
+import com.dev.trackify_backend.status.PresenceIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/** k-NN 조회: 격자 인덱스 vs 전체 선형 스캔(온라인 10만 대 기준) */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NearestBenchmark {
+    @Param({"100000"})
+    public int devices;
+
+    @Param({"10"})
+    public int k;
+
+    private PresenceIndex index;
+
+    @Setup
+    public void setUp() {
+        index = new PresenceIndex();
+        ThreadLocalRandom r = ThreadLocalRandom.current();
+        for (int i = 0; i < devices; i++) {
+            var p = BenchmarkFixtures.presence(BenchmarkFixtures.userCode(i), 34.5 + r.nextDouble() * 3.5, 126.3 + r.nextDouble() * 3.0);
+            p.setWorking(r.nextInt(4) == 0);
+            index.onUpdate(p, false);
+        }
+    }
+
+    @Benchmark
+    public List<PresenceIndex.Neighbor> gridIndex() {
+        ThreadLocalRandom r = ThreadLocalRandom.current();
+        return index.nearest(34.5 + r.nextDouble() * 3.5, 126.3 + r.nextDouble() * 3.0, k, false);
+    }
+
+    @Benchmark
+    public List<PresenceIndex.Neighbor> linearScan() {
+        ThreadLocalRandom r = ThreadLocalRandom.current();
+        return index.linearScan(34.5 + r.nextDouble() * 3.5, 126.3 + r.nextDouble() * 3.0, k, false);
+    }
+}
@@ -0,0 +1,50 @@
+package com.dev.trackify_backend.benchmark;
+
+import com.dev.trackify_backend.dto.response.stomp.RespStompUserDto;
+import com.dev.trackify_backend.status.PresenceStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/** Presence > DTO 변환, Jackson 직렬화/역직렬화 비용 측정(Redis 저장, STOMP 브로드캐스트 경로) */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PresenceSerializationBenchmark {
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private PresenceStatus.Presence presence;
+    private RespStompUserDto dto;
+    private byte[] presenceJson;
+
+    @Setup
+    public void setUp() throws Exception {
+        presence = BenchmarkFixtures.presence("bench001", 37.5665, 126.9780);
+        dto = RespStompUserDto.from(presence);
+        presenceJson = objectMapper.writeValueAsBytes(presence);
+    }
+
+    @Benchmark
+    public RespStompUserDto respStompUserDtoFrom() {
+        return RespStompUserDto.from(presence);
+    }
+
+    @Benchmark
+    public byte[] serializePresence() throws Exception {
+        return objectMapper.writeValueAsBytes(presence);
+    }
+
+    @Benchmark
+    public PresenceStatus.Presence deserializePresence() throws Exception {
+        return objectMapper.readValue(presenceJson, PresenceStatus.Presence.class);
+    }
+
+    @Benchmark
+    public byte[] serializeRespStompUserDto() throws Exception {
+        return objectMapper.writeValueAsBytes(dto);
+    }
+}
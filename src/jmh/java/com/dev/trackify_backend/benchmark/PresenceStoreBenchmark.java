@@ -0,0 +1,49 @@
+package com.dev.trackify_backend.benchmark;
+
+import com.dev.trackify_backend.status.PresenceStatus;
+import com.dev.trackify_backend.status.PresenceStore;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/** PresenceStore 연산(get/save/findAll) 비용 측정 > 메모리 저장소(InMemoryPresenceStore) 기준, Redis/hybrid는 RedisPresenceStoreBenchmark */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PresenceStoreBenchmark {
+    @Param({"1000", "10000"})
+    public int users;
+
+    private PresenceStore store;
+
+    @Setup
+    public void setUp() {
+        store = BenchmarkFixtures.memoryStore();
+        for (int i = 0; i < users; i++) {
+            store.save(BenchmarkFixtures.presence(BenchmarkFixtures.userCode(i), 37.5 + i * 1e-5, 127.0));
+        }
+    }
+
+    @Benchmark
+    public PresenceStatus.Presence get() {
+        return store.get(BenchmarkFixtures.userCode(ThreadLocalRandom.current().nextInt(users)));
+    }
+
+    @Benchmark
+    public void getAndSave() {
+        PresenceStatus.Presence p = store.get(BenchmarkFixtures.userCode(ThreadLocalRandom.current().nextInt(users)));
+        p.setLastMsgAt(System.currentTimeMillis());
+        store.save(p);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<PresenceStatus.Presence> findAll() {
+        return store.findAll();
+    }
+}
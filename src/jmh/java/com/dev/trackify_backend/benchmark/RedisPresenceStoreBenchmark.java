@@ -0,0 +1,108 @@
+package com.dev.trackify_backend.benchmark;
+
+import com.dev.trackify_backend.config.RedisConfig;
+import com.dev.trackify_backend.metrics.PresenceMetrics;
+import com.dev.trackify_backend.status.HybridPresenceStore;
+import com.dev.trackify_backend.status.PresenceStatus;
+import com.dev.trackify_backend.status.ReactivePresenceStore;
+import com.dev.trackify_backend.status.RedisPresenceStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/** 로컬 Redis 대상 위치 갱신(get > save) 처리량: 블로킹 vs 비동기(ReactivePresenceStore), 저장소 redis vs hybrid
+ * - 호출 스레드 수(@Threads)는 같게 두고, 한 번 호출에 BATCH건 처리
+ *   블로킹: BATCH건을 순서대로(건마다 왕복 2회 대기), 비동기: BATCH건을 동시에 보내고 마지막에 한 번 대기(자동 파이프라이닝)
+ * - hybrid: get이 near-cache에 적중하면 Redis 왕복 없음(save는 항상 Redis)
+ * - 실행: mvn -B -Pbenchmark -DskipTests verify -Djmh.includes=RedisPresenceStoreBenchmark
+ *   Redis 주소: -Dbench.redis.host=localhost -Dbench.redis.port=6379 (키: presence:bench*)
+ * */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class RedisPresenceStoreBenchmark {
+    private static final int USERS = 10_000;
+    private static final int BATCH = 64;
+
+    @Param({"redis", "hybrid"})
+    public String backend;
+
+    private LettuceConnectionFactory connectionFactory;
+    private RedisPresenceStore store;
+    private ReactivePresenceStore asyncStore;
+
+    @Setup
+    public void setUp() {
+        String host = System.getProperty("bench.redis.host", "localhost");
+        int port = Integer.getInteger("bench.redis.port", 6379);
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(host, port));
+        connectionFactory.afterPropertiesSet();
+
+        RedisConfig config = new RedisConfig();
+        PresenceMetrics metrics = new PresenceMetrics(new SimpleMeterRegistry());
+
+        asyncStore = new ReactivePresenceStore();
+        ReflectionTestUtils.setField(asyncStore, "reactiveRedisTemplate", config.presenceReactiveRedisTemplate(connectionFactory));
+        ReflectionTestUtils.setField(asyncStore, "metrics", metrics);
+        ReflectionTestUtils.setField(asyncStore, "callbackThreads", 2);
+        asyncStore.init();
+
+        if ("hybrid".equals(backend)) {
+            store = new HybridPresenceStore();
+            ReflectionTestUtils.setField(store, "ttlMs", 1000L);
+        } else {
+            store = new RedisPresenceStore();
+        }
+        ReflectionTestUtils.setField(store, "redisTemplate", config.presenceRedisTemplate(connectionFactory));
+        ReflectionTestUtils.setField(store, "metrics", metrics);
+        ReflectionTestUtils.setField(store, "reactiveStore", asyncStore);
+
+        for (int i = 0; i < USERS; i++) {
+            store.save(BenchmarkFixtures.presence(BenchmarkFixtures.userCode(i), 37.5 + i * 1e-5, 127.0));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        for (int i = 0; i < USERS; i++) {
+            store.delete(BenchmarkFixtures.userCode(i));
+        }
+        asyncStore.shutdown();
+        connectionFactory.destroy();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void blockingUpdate() {
+        ThreadLocalRandom rnd = ThreadLocalRandom.current();
+        for (int i = 0; i < BATCH; i++) {
+            PresenceStatus.Presence p = store.get(BenchmarkFixtures.userCode(rnd.nextInt(USERS)));
+            p.setLastMsgAt(System.currentTimeMillis());
+            store.save(p);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void asyncUpdate() {
+        ThreadLocalRandom rnd = ThreadLocalRandom.current();
+        CompletableFuture<?>[] inFlight = new CompletableFuture<?>[BATCH];
+        for (int i = 0; i < BATCH; i++) {
+            inFlight[i] = store.getAsync(BenchmarkFixtures.userCode(rnd.nextInt(USERS))).thenCompose(p -> {
+                p.setLastMsgAt(System.currentTimeMillis());
+                return store.saveAsync(p);
+            });
+        }
+        CompletableFuture.allOf(inFlight).join();
+    }
+}
@@ -0,0 +1,66 @@
+package com.dev.trackify_backend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/** 역할
+ * trackify.datasource.replica.url이 설정된 경우에만 읽기/쓰기 DataSource 분리
+ * - primary: spring.datasource.* (기존 설정 그대로)
+ * - replica: trackify.datasource.replica.url (username/password/driver-class-name 생략 시 primary 값)
+ * - MyBatis/트랜잭션 매니저는 라우팅 DataSource(@Primary) 하나만 사용 > 매퍼 변경 없음
+ * 미설정이면 이 설정은 비활성 > Spring Boot 기본 DataSource 자동 설정 사용
+ * 테스트: 두 번째 로컬 MySQL(또는 같은 DB를 가리키는 읽기 전용 계정)을 replica로 지정
+ * */
+@Configuration
+@ConditionalOnProperty(prefix = "trackify.datasource.replica", name = "url")
+public class DataSourceConfig {
+    private static final String REPLICA = "trackify.datasource.replica.";
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource ds = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        ds.setPoolName("primary");
+        return ds;
+    }
+
+    @Bean
+    @ConfigurationProperties("trackify.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(DataSourceProperties primary, Environment env) {
+        HikariDataSource ds = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(env.getRequiredProperty(REPLICA + "url"))
+                .username(env.getProperty(REPLICA + "username", primary.determineUsername()))
+                .password(env.getProperty(REPLICA + "password", primary.determinePassword()))
+                .driverClassName(env.getProperty(REPLICA + "driver-class-name", primary.determineDriverClassName()))
+                .build();
+        ds.setPoolName("replica");
+        ds.setReadOnly(true);
+        return ds;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") DataSource replica) {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource();
+        routing.setTargetDataSources(Map.of(
+                ReadWriteRoutingDataSource.PRIMARY, primary,
+                ReadWriteRoutingDataSource.REPLICA, replica));
+        routing.setDefaultTargetDataSource(primary);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+}
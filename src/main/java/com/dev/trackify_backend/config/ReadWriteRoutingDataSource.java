@@ -0,0 +1,20 @@
+package com.dev.trackify_backend.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/** 역할
+ * 현재 트랜잭션이 readOnly면 replica, 그 외(쓰기/트랜잭션 없음)는 primary
+ * ReplicaLagGuard가 primary를 강제한 조회는 readOnly여도 primary
+ * 트랜잭션 속성이 정해진 뒤 커넥션을 얻도록 LazyConnectionDataSourceProxy로 감싸서 사용
+ * */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+    public static final String PRIMARY = "primary";
+    public static final String REPLICA = "replica";
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (ReplicaLagGuard.isPrimaryForced()) return PRIMARY;
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? REPLICA : PRIMARY;
+    }
+}
@@ -2,13 +2,17 @@ package com.dev.trackify_backend.config;
 
 import com.dev.trackify_backend.status.PresenceStatus;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 /** Spring Boot와 Redis 연결을 위한 설정 클래스
@@ -65,4 +69,17 @@ public class RedisConfig {
         tpl.afterPropertiesSet(); // afterPropertiesSet(): Bean 초기화 후 적용 완료
         return tpl;
     }
+
+    // ReactiveRedisTemplate: Lettuce 비동기 API 기반(ReactivePresenceStore), 응답을 기다리는 동안 스레드를 막지 않음
+    // - 같은 커넥션 팩토리(LettuceConnectionFactory는 reactive 커넥션도 제공), key/value 직렬화도 위와 동일 > 같은 키를 함께 사용 가능
+    // - trackify.presence.async=true일 때만 생성
+    @Bean
+    @ConditionalOnProperty(name = "trackify.presence.async", havingValue = "true")
+    public ReactiveRedisTemplate<String, PresenceStatus.Presence> presenceReactiveRedisTemplate(RedisConnectionFactory cf) {
+        RedisSerializationContext<String, PresenceStatus.Presence> ctx = RedisSerializationContext
+                .<String, PresenceStatus.Presence>newSerializationContext(new StringRedisSerializer())
+                .value(new Jackson2JsonRedisSerializer<>(PresenceStatus.Presence.class))
+                .build();
+        return new ReactiveRedisTemplate<>((ReactiveRedisConnectionFactory) cf, ctx);
+    }
 }
@@ -0,0 +1,76 @@
+package com.dev.trackify_backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/** 역할
+ * 복제 지연(replica lag) 대응: 방금 쓴 데이터를 바로 읽는 경로(read-after-write)는 primary에서 읽게 함
+ * - 쓰기 후 markWrite(key) > lag-window-ms 동안 read(key, ...) 안의 조회는 primary로 라우팅
+ * - key 예: "user:{userCode}", "job:{jobId}"
+ *   userCode는 소문자로 정규화(DB는 _ci 비교) > 쓰기/읽기 경로의 대소문자가 달라도 같은 키
+ * 라우팅 여부는 스레드 로컬로 전달(ReadWriteRoutingDataSource가 커넥션 획득 시 확인)
+ * replica 미설정이면 라우팅 자체가 없으므로 영향 없음
+ * 노드 로컬 상태: 쓰기와 읽기가 다른 노드로 가면 보장되지 않음
+ * */
+@Component
+public class ReplicaLagGuard {
+    private static final ThreadLocal<Boolean> FORCE_PRIMARY = new ThreadLocal<>();
+
+    @Value("${trackify.datasource.replica.lag-window-ms:3000}")
+    private long lagWindowMs;
+
+    private final Map<String, Long> recentWrites = new ConcurrentHashMap<>();
+
+    public static String userKey(String userCode) {
+        return "user:" + (userCode != null ? userCode.toLowerCase(Locale.ROOT) : null);
+    }
+
+    public static String jobKey(long jobId) {
+        return "job:" + jobId;
+    }
+
+    public void markWrite(String key) {
+        if (key != null) recentWrites.put(key, System.currentTimeMillis() + lagWindowMs);
+    }
+
+    public boolean recentlyWritten(String key) {
+        Long until = recentWrites.get(key);
+        if (until == null) return false;
+        if (until < System.currentTimeMillis()) {
+            recentWrites.remove(key, until);
+            return false;
+        }
+        return true;
+    }
+
+    // 최근 쓰기가 있었으면 primary 강제 후 조회
+    // - readOnly 트랜잭션 안에서도 첫 쿼리 전에 호출되면 적용(LazyConnectionDataSourceProxy)
+    public <T> T read(String key, Supplier<T> query) {
+        if (!recentlyWritten(key) || Boolean.TRUE.equals(FORCE_PRIMARY.get())) {
+            return query.get();
+        }
+        FORCE_PRIMARY.set(Boolean.TRUE);
+        try {
+            return query.get();
+        } finally {
+            FORCE_PRIMARY.remove();
+        }
+    }
+
+    static boolean isPrimaryForced() {
+        return Boolean.TRUE.equals(FORCE_PRIMARY.get());
+    }
+
+    // 만료된 기록 정리
+    @Scheduled(fixedDelay = 60_000)
+    public void purge() {
+        long now = System.currentTimeMillis();
+        recentWrites.values().removeIf(until -> until < now);
+    }
+}
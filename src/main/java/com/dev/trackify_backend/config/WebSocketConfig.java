@@ -1,5 +1,8 @@
 package com.dev.trackify_backend.config;
 
+import com.dev.trackify_backend.logging.StompInboundLoggingInterceptor;
+import com.dev.trackify_backend.metrics.StompInboundMetricsInterceptor;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.server.ServerHttpRequest;
@@ -27,6 +30,14 @@ import java.util.UUID;
 @Configuration
 @EnableWebSocketMessageBroker // STOMP 메시징 활성화(컨트롤러 @MessageMapping 등 사용 가능)
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+
+    // 인바운드 메시지 destination별 집계
+    @Autowired
+    private StompInboundMetricsInterceptor inboundMetricsInterceptor;
+
+    // 인바운드 메시지 destination별 로거(샘플링, 런타임 레벨 변경)
+    @Autowired
+    private StompInboundLoggingInterceptor inboundLoggingInterceptor;
     
     // 핸드셰이크 시 Principal로 쓸 간단한 구현체
     // - Spring의 STOMP는 Principal.getName()을 "사용자 식별자"로 사용
@@ -113,13 +124,17 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         // - 연결 유휴/단절 탐지, 유령 세선 방지
         simple.setTaskScheduler(wsBrokerTaskScheduler());
         simple.setHeartbeatValue(new long[]{10_000, 10_000});
+
+        // 세션별 전송 순서 = 발행 순서(clientOutboundChannel 스레드 풀이 순서를 바꾸지 않도록)
+        // - 작업 이벤트 seq 재개(JobEventRelay)가 도착 순서에 의존
+        registry.setPreservePublishOrder(true);
     }
     
     // 인바운드 채널 인터셉터 등 커스터마이즈 지점
-    // - 현재는 Principal 부여를 핸듯셰이크에서 끝냈기에 비워둠
+    // - Principal 부여는 핸드셰이크에서 끝냈고, 여기서는 지표 집계/로깅만 수행
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
         // 필요 시: 인증/권한/로깅/레이트리밋 인터셉터 추가 가능
-        // registration.interceptors(new YourChannelInterceptor());
+        registration.interceptors(inboundMetricsInterceptor, inboundLoggingInterceptor);
     }
 }
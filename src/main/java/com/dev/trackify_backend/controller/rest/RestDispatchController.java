@@ -0,0 +1,27 @@
+package com.dev.trackify_backend.controller.rest;
+
+import com.dev.trackify_backend.dto.request.rest.ReqRestDispatchDto;
+import com.dev.trackify_backend.service.rest.RestDispatchService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1")
+public class RestDispatchController {
+
+    @Autowired
+    private RestDispatchService restDispatchService;
+
+    @PostMapping("/dispatch/match")
+    public ResponseEntity<?> match(@RequestBody ReqRestDispatchDto reqRestDispatchDto) {
+        return ResponseEntity.ok().body(restDispatchService.match(reqRestDispatchDto));
+    }
+
+    @PostMapping("/dispatch/match/batch")
+    public ResponseEntity<?> matchBatch(@RequestBody List<ReqRestDispatchDto> reqRestDispatchDtos) {
+        return ResponseEntity.ok().body(restDispatchService.matchBatch(reqRestDispatchDtos));
+    }
+}
@@ -2,6 +2,7 @@ package com.dev.trackify_backend.controller.rest;
 
 import org.apache.ibatis.javassist.NotFoundException;
 import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -16,6 +17,12 @@ public class RestExceptionController {
         return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
     }
 
+    // 조건부 update 0건(이미 완료/취소, 버전 불일치)
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<?> optimisticLockingException(OptimisticLockingFailureException e) {
+        return ResponseEntity.status(409).body(Map.of("message", e.getMessage()));
+    }
+
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<?> runtimeException(RuntimeException e) {
         return ResponseEntity.badRequest().body(Map.of("message", e.getMessage()));
@@ -0,0 +1,22 @@
+package com.dev.trackify_backend.controller.rest;
+
+import com.dev.trackify_backend.service.rest.RestGeofenceService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1")
+public class RestGeofenceController {
+
+    @Autowired
+    private RestGeofenceService restGeofenceService;
+
+    @GetMapping("/geofence/dwell/{jobId}")
+    public ResponseEntity<?> getDwells(@PathVariable long jobId) {
+        return ResponseEntity.ok().body(restGeofenceService.getDwells(jobId));
+    }
+}
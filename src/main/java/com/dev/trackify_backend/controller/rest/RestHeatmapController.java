@@ -0,0 +1,26 @@
+package com.dev.trackify_backend.controller.rest;
+
+import com.dev.trackify_backend.service.rest.RestHeatmapService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1")
+public class RestHeatmapController {
+
+    @Autowired
+    private RestHeatmapService restHeatmapService;
+
+    @GetMapping("/heatmap/{z}/{x}/{y}")
+    public ResponseEntity<?> getTile(@PathVariable int z,
+                                     @PathVariable int x,
+                                     @PathVariable int y,
+                                     @RequestParam(defaultValue = "presence") String layer) {
+        return ResponseEntity.ok().body(restHeatmapService.getTile(z, x, y, layer));
+    }
+}
@@ -3,12 +3,15 @@ package com.dev.trackify_backend.controller.rest;
 import com.dev.trackify_backend.service.rest.RestHistoryService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDateTime;
+
 @Slf4j
 @RestController
 @RequestMapping("/api/v1")
@@ -17,10 +20,14 @@ public class RestHistoryController {
     @Autowired
     private RestHistoryService restHistoryService;
 
+    // from/to(선택, ISO-8601): 작업 시작 시각 기준 조회 구간
     @GetMapping("/historys")
-    public ResponseEntity<?> getHistorys(@RequestParam(required = false) Long cargoId, @RequestParam(required = false) Long productId) {
-        log.info("{}", cargoId);
-        log.info("{}", productId);
-        return ResponseEntity.ok().body(restHistoryService.getHistorys(cargoId, productId));
+    public ResponseEntity<?> getHistorys(@RequestParam(required = false) Long cargoId,
+                                         @RequestParam(required = false) Long productId,
+                                         @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                         @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        log.debug("{}", cargoId);
+        log.debug("{}", productId);
+        return ResponseEntity.ok().body(restHistoryService.getHistorys(cargoId, productId, from, to));
     }
 }
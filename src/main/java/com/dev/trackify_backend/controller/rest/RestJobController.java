@@ -1,6 +1,9 @@
 package com.dev.trackify_backend.controller.rest;
 
+import com.dev.trackify_backend.dto.request.rest.ReqRestJobBatchDto;
 import com.dev.trackify_backend.dto.request.rest.ReqRestJobDto;
+import com.dev.trackify_backend.idempotency.Idempotent;
+import com.dev.trackify_backend.service.rest.RestJobBatchService;
 import com.dev.trackify_backend.service.rest.RestJobService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -15,42 +18,58 @@ public class RestJobController {
     @Autowired
     private RestJobService restJobService;
 
+    @Autowired
+    private RestJobBatchService restJobBatchService;
+
     @GetMapping("/job/{userCode}")
     public ResponseEntity<?> getJob(@PathVariable String userCode) {
-        log.info("{}", userCode);
+        log.debug("{}", userCode);
         return ResponseEntity.ok().body(restJobService.getJob(userCode));
     }
 
     @GetMapping("/job/running/{jobId}")
     public ResponseEntity<?> getJobById(@PathVariable long jobId) {
-        log.info("{}", jobId);
+        log.debug("{}", jobId);
         return ResponseEntity.ok().body(restJobService.getJobById(jobId));
     }
 
+    // 변경 API: Idempotency-Key 헤더가 있으면 재시도 시 저장된 응답 반환(재실행 없음)
+    @Idempotent
     @PostMapping("/job/register")
     public ResponseEntity<?> registerJob(@RequestBody ReqRestJobDto reqRestJobDto) {
-        log.info("{}", reqRestJobDto);
+        log.debug("{}", reqRestJobDto);
         return ResponseEntity.ok().body(restJobService.registerJob(reqRestJobDto));
     }
 
+    // 일괄 등록/변경/취소(항목별 결과, 한 트랜잭션)
+    @Idempotent
+    @PostMapping("/job/batch")
+    public ResponseEntity<?> batchJobs(@RequestBody ReqRestJobBatchDto reqRestJobBatchDto) {
+        log.debug("{}", reqRestJobBatchDto.getItems() != null ? reqRestJobBatchDto.getItems().size() : 0);
+        return ResponseEntity.ok().body(restJobBatchService.batch(reqRestJobBatchDto));
+    }
+
+    @Idempotent
     @PutMapping("/job/update")
     public ResponseEntity<?> updateJob(@RequestBody ReqRestJobDto reqRestJobDto) {
-        log.info("{}", reqRestJobDto);
+        log.debug("{}", reqRestJobDto);
         restJobService.updateJob(reqRestJobDto);
         return ResponseEntity.ok().body("update job success");
     }
 
+    @Idempotent
     @PutMapping("/job/complete")
     public ResponseEntity<?> completeJob(@RequestBody ReqRestJobDto reqRestJobDto) {
-        log.info("{}", reqRestJobDto);
+        log.debug("{}", reqRestJobDto);
         restJobService.completeJob(reqRestJobDto);
         return ResponseEntity.ok().body("complete job success");
     }
 
+    @Idempotent
     @PutMapping("/job/cancel/{jobId}")
-    public ResponseEntity<?> cancelJob(@PathVariable long jobId) {
-        log.info("{}", jobId);
-        restJobService.cancelJob(jobId);
+    public ResponseEntity<?> cancelJob(@PathVariable long jobId, @RequestParam(required = false) Integer version) {
+        log.debug("{}", jobId);
+        restJobService.cancelJob(jobId, version);
         return ResponseEntity.ok().body("cancel job success");
     }
 }
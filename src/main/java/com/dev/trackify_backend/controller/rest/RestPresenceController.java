@@ -0,0 +1,40 @@
+package com.dev.trackify_backend.controller.rest;
+
+import com.dev.trackify_backend.service.rest.RestPresenceService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1")
+public class RestPresenceController {
+
+    @Autowired
+    private RestPresenceService restPresenceService;
+
+    @GetMapping("/presence/nearest")
+    public ResponseEntity<?> getNearest(@RequestParam double lat,
+                                        @RequestParam double lng,
+                                        @RequestParam(defaultValue = "10") int k,
+                                        @RequestParam(defaultValue = "false") boolean working) {
+        return ResponseEntity.ok().body(restPresenceService.getNearest(lat, lng, k, working));
+    }
+
+    @GetMapping("/presence/clusters")
+    public ResponseEntity<?> getClusters(@RequestParam int zoom,
+                                         @RequestParam double south,
+                                         @RequestParam double west,
+                                         @RequestParam double north,
+                                         @RequestParam double east) {
+        return ResponseEntity.ok().body(restPresenceService.getClusters(zoom, south, west, north, east));
+    }
+
+    @GetMapping("/presence/{userCode}/trail")
+    public ResponseEntity<?> getTrail(@PathVariable String userCode) {
+        return ResponseEntity.ok().body(restPresenceService.getTrail(userCode));
+    }
+}
@@ -0,0 +1,49 @@
+package com.dev.trackify_backend.controller.rest;
+
+import com.dev.trackify_backend.service.rest.RestStatService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+
+// from/to: yyyy-MM-dd(양 끝 포함), 생략 시 최근 trackify.stats.default-days일
+@RestController
+@RequestMapping("/api/v1")
+public class RestStatController {
+
+    @Autowired
+    private RestStatService restStatService;
+
+    @GetMapping("/stats/cargos")
+    public ResponseEntity<?> getCargoStats(@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                           @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                           @RequestParam(required = false) Long cargoId) {
+        return ResponseEntity.ok().body(restStatService.getCargoStats(from, to, cargoId));
+    }
+
+    @GetMapping("/stats/products")
+    public ResponseEntity<?> getProductStats(@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                             @RequestParam(required = false) Long productId) {
+        return ResponseEntity.ok().body(restStatService.getProductStats(from, to, productId));
+    }
+
+    @GetMapping("/stats/users")
+    public ResponseEntity<?> getUserStats(@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                          @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                          @RequestParam(required = false) Long userId) {
+        return ResponseEntity.ok().body(restStatService.getUserStats(from, to, userId));
+    }
+
+    @PostMapping("/stats/backfill")
+    public ResponseEntity<?> backfill(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok().body(restStatService.backfill(from, to));
+    }
+}
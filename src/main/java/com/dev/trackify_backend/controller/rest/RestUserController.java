@@ -17,19 +17,19 @@ public class RestUserController {
 
     @GetMapping("/user/{userCode}")
     public ResponseEntity<?> validateUser(@PathVariable String userCode) {
-        log.info("{}", userCode);
+        log.debug("{}", userCode);
         return ResponseEntity.ok().body(restUserService.validateUser(userCode));
     }
 
     @GetMapping("/user/my/{userCode}")
     public ResponseEntity<?> getMyInfo(@PathVariable String userCode) {
-        log.info("{}", userCode);
+        log.debug("{}", userCode);
         return ResponseEntity.ok().body(restUserService.getMyInfo(userCode));
     }
 
     @PostMapping("/user")
     public ResponseEntity<?> registerUser(@RequestBody ReqRestUserDto reqRestUserDto) {
-        log.info("{}", reqRestUserDto);
+        log.debug("{}", reqRestUserDto);
         restUserService.registerUser(reqRestUserDto);
         return ResponseEntity.ok().body("register user success");
     }
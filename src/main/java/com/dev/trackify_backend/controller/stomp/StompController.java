@@ -1,41 +1,55 @@
 package com.dev.trackify_backend.controller.stomp;
 
+import com.dev.trackify_backend.dto.request.stomp.ReqStompClusterDto;
+import com.dev.trackify_backend.dto.request.stomp.ReqStompJobResumeDto;
+import com.dev.trackify_backend.dto.request.stomp.ReqStompNearestDto;
 import com.dev.trackify_backend.dto.request.stomp.ReqStompPingDto;
+import com.dev.trackify_backend.dto.request.stomp.ReqStompPlaybackDto;
+import com.dev.trackify_backend.dto.request.stomp.ReqStompReplayDto;
+import com.dev.trackify_backend.dto.request.stomp.ReqStompReplayStopDto;
+import com.dev.trackify_backend.dto.request.stomp.ReqStompSyncDto;
 import com.dev.trackify_backend.dto.request.stomp.ReqStompUserDto;
 import com.dev.trackify_backend.dto.request.stomp.ReqStompWorkingDto;
+import com.dev.trackify_backend.dto.response.rest.RespRestClusterDto;
+import com.dev.trackify_backend.dto.response.rest.RespRestNearestDto;
+import com.dev.trackify_backend.dto.response.rest.RespRestTrailDto;
+import com.dev.trackify_backend.dto.response.stomp.RespStompJobResumeDto;
+import com.dev.trackify_backend.dto.response.stomp.RespStompSyncDto;
 import com.dev.trackify_backend.dto.response.stomp.RespStompUserDto;
+import com.dev.trackify_backend.service.stomp.StompReplayService;
 import com.dev.trackify_backend.service.stomp.StompService;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.messaging.simp.annotation.SendToUser;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
 import org.springframework.stereotype.Controller;
 
+import java.security.Principal;
 import java.util.List;
 
-@Slf4j
 @Controller
 public class StompController {
 
     @Autowired
     private StompService stompService;
 
+    @Autowired
+    private StompReplayService stompReplayService;
+
     @MessageMapping("/connect")
     public void connect(@Payload ReqStompUserDto ReqStompUserDto) {
-        log.info("{}", ReqStompUserDto);
         stompService.connect(ReqStompUserDto);
     }
 
     @MessageMapping("/update")
     public void update(@Payload ReqStompUserDto reqStompUserDto) {
-        log.info("{}", reqStompUserDto);
         stompService.update(reqStompUserDto);
     }
 
     @MessageMapping("/working")
     public void setWorking(ReqStompWorkingDto reqStompWorkingDto) {
-        log.info("{}", reqStompWorkingDto);
         stompService.working(reqStompWorkingDto);
     }
 
@@ -46,7 +60,6 @@ public class StompController {
 
     @MessageMapping("/disconnect")
     public void disconnect(@Payload String userCode) {
-        log.info("{}", userCode);
         stompService.disconnect(userCode);
     }
 
@@ -55,4 +68,61 @@ public class StompController {
     public List<RespStompUserDto> snapshot(@Payload ReqStompPingDto reqStompPingDto) {
         return stompService.snapshot(reqStompPingDto.getUserCode());
     }
+
+    // 재접속 증분 동기화(마지막 버전 이후 변경만, 불가능하면 전체 스냅샷)
+    @MessageMapping("/presence/sync")
+    @SendToUser("/queue/presence")
+    public RespStompSyncDto sync(@Payload ReqStompSyncDto reqStompSyncDto) {
+        return stompService.sync(reqStompSyncDto);
+    }
+
+    @MessageMapping("/presence/nearest")
+    @SendToUser("/queue/nearest")
+    public List<RespRestNearestDto> nearest(@Payload ReqStompNearestDto reqStompNearestDto) {
+        return stompService.nearest(reqStompNearestDto);
+    }
+
+    // 뷰포트 클러스터/마커 > 클러스터 줌이면 이후 변경은 /user/queue/clusters/delta
+    @MessageMapping("/presence/clusters")
+    @SendToUser("/queue/clusters")
+    public List<RespRestClusterDto> clusters(@Payload ReqStompClusterDto reqStompClusterDto, Principal principal) {
+        return stompService.clusters(principal.getName(), reqStompClusterDto);
+    }
+
+    // 클러스터 델타 구독 중단(기사별 이벤트 재개)
+    @MessageMapping("/presence/clusters/stop")
+    public void stopClusters(Principal principal) {
+        stompService.stopClusters(principal.getName());
+    }
+
+    // 구독 즉시 현재 궤적 1회 응답(/app/presence/trail/{userCode})
+    // - 이후 새 지점은 /topic/presence/trail/{userCode}로 수신
+    @SubscribeMapping("/presence/trail/{userCode}")
+    public RespRestTrailDto trail(@DestinationVariable String userCode) {
+        return stompService.trail(userCode);
+    }
+
+    // 작업 이벤트 재개(마지막 seq 이후 놓친 이벤트) > /user/queue/jobs
+    @MessageMapping("/jobs/resume")
+    @SendToUser("/queue/jobs")
+    public RespStompJobResumeDto resumeJobs(@Payload ReqStompJobResumeDto reqStompJobResumeDto, Principal principal) {
+        return stompService.resumeJobs(principal.getName(), reqStompJobResumeDto);
+    }
+
+    // 위치 로그 재생(사용자 또는 지역, 배속) > /user/queue/replay
+    @MessageMapping("/replay/start")
+    public void startReplay(@Payload ReqStompReplayDto reqStompReplayDto, Principal principal) {
+        stompReplayService.start(principal.getName(), reqStompReplayDto);
+    }
+
+    // 완료된 작업 경로 재생 > /user/queue/playback (중단은 /replay/stop)
+    @MessageMapping("/playback/start")
+    public void startPlayback(@Payload ReqStompPlaybackDto reqStompPlaybackDto, Principal principal) {
+        stompReplayService.startPlayback(principal.getName(), reqStompPlaybackDto);
+    }
+
+    @MessageMapping("/replay/stop")
+    public void stopReplay(@Payload ReqStompReplayStopDto reqStompReplayStopDto, Principal principal) {
+        stompReplayService.stop(principal.getName(), reqStompReplayStopDto.getReplayId());
+    }
 }
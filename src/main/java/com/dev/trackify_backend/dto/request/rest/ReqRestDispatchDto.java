@@ -0,0 +1,11 @@
+package com.dev.trackify_backend.dto.request.rest;
+
+import lombok.Data;
+
+@Data
+public class ReqRestDispatchDto {
+    private long cargoId;
+    private long productId;
+    private int productCount;
+    private int limit;          // 후보 수(단건 조회), 0이면 기본값
+}
@@ -0,0 +1,20 @@
+package com.dev.trackify_backend.dto.request.rest;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+import java.util.List;
+
+@Data
+public class ReqRestJobBatchDto {
+    private List<Item> items;
+
+    // op: REGISTER(userCode, cargoId, productId, productCount) | UPDATE(jobId, cargoId, productId, productCount, version?) | CANCEL(jobId, version?)
+    @Data
+    @EqualsAndHashCode(callSuper = true)
+    @ToString(callSuper = true)
+    public static class Item extends ReqRestJobDto {
+        private String op;
+    }
+}
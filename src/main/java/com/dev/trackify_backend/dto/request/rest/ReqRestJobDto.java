@@ -11,6 +11,7 @@ public class ReqRestJobDto {
     private long productId;
     private int productCount;
     private String paths;
+    private Integer version; // 조회 시 받은 버전(선택), 있으면 일치할 때만 반영
 
     public Job toSaveEntity(long id) {
         return Job.builder()
@@ -27,6 +28,7 @@ public class ReqRestJobDto {
                 .cargoId(cargoId)
                 .productId(productId)
                 .productCount(productCount)
+                .version(version)
                 .build();
     }
 
@@ -34,6 +36,7 @@ public class ReqRestJobDto {
         return Job.builder()
                 .id(jobId)
                 .paths(paths)
+                .version(version)
                 .build();
     }
 
@@ -0,0 +1,12 @@
+package com.dev.trackify_backend.dto.request.stomp;
+
+import lombok.Data;
+
+@Data
+public class ReqStompClusterDto {
+    private int zoom;
+    private double south;
+    private double west;
+    private double north;
+    private double east;
+}
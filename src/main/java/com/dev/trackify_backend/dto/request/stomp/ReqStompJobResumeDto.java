@@ -0,0 +1,10 @@
+package com.dev.trackify_backend.dto.request.stomp;
+
+import lombok.Data;
+
+@Data
+public class ReqStompJobResumeDto {
+    private Long epoch;    // 마지막으로 받은 이벤트의 epoch(처음이면 null)
+    private Long seq;      // 마지막으로 받은 seq(처음이면 null)
+    private Long cargoId;  // 화물지 구독 재개(null이면 본인 작업만)
+}
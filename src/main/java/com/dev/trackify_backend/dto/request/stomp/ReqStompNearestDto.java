@@ -0,0 +1,12 @@
+package com.dev.trackify_backend.dto.request.stomp;
+
+import lombok.Data;
+
+@Data
+public class ReqStompNearestDto {
+    private String userCode;
+    private double lat;
+    private double lng;
+    private int k;
+    private boolean working;
+}
@@ -0,0 +1,9 @@
+package com.dev.trackify_backend.dto.request.stomp;
+
+import lombok.Data;
+
+@Data
+public class ReqStompPlaybackDto {
+    private long jobId;        // 완료된 작업 ID
+    private double speed;      // 재생 배속(기본 1)
+}
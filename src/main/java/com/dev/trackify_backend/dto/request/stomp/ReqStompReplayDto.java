@@ -0,0 +1,15 @@
+package com.dev.trackify_backend.dto.request.stomp;
+
+import lombok.Data;
+
+@Data
+public class ReqStompReplayDto {
+    private String userCode;   // 재생 대상 사용자(지역 재생이면 null)
+    private Double south;      // 지역 재생 범위(4개 모두 지정)
+    private Double west;
+    private Double north;
+    private Double east;
+    private long from;         // 시작 시각(epoch ms)
+    private long to;           // 종료 시각(epoch ms)
+    private double speed;      // 재생 배속(기본 1)
+}
@@ -0,0 +1,8 @@
+package com.dev.trackify_backend.dto.request.stomp;
+
+import lombok.Data;
+
+@Data
+public class ReqStompReplayStopDto {
+    private String replayId;
+}
@@ -0,0 +1,10 @@
+package com.dev.trackify_backend.dto.request.stomp;
+
+import lombok.Data;
+
+@Data
+public class ReqStompSyncDto {
+    private String userCode;
+    private Long epoch;    // 마지막 동기화 응답의 epoch(처음이면 null)
+    private Long version;  // 마지막으로 본 버전(처음이면 null)
+}
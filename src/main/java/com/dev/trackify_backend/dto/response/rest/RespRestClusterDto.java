@@ -0,0 +1,42 @@
+package com.dev.trackify_backend.dto.response.rest;
+
+import com.dev.trackify_backend.status.ClusterStatus;
+import com.dev.trackify_backend.status.PresenceIndex;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class RespRestClusterDto {
+    private String type;         // CLUSTER | MARKER
+    private String cellId;       // CLUSTER만(격자 x/y), 클러스터 델타 적용 키
+    private double lat;          // CLUSTER: 중심점, MARKER: 기사 좌표
+    private double lng;
+    private int count;           // MARKER는 1
+    private int working;         // 작업 중 기사 수
+    private String userCode;     // MARKER만
+    private String userName;     // MARKER만
+
+    public static RespRestClusterDto from(ClusterStatus.Snapshot s) {
+        return RespRestClusterDto.builder()
+                .type("CLUSTER")
+                .cellId(s.cellId())
+                .lat(s.lat())
+                .lng(s.lng())
+                .count(s.count())
+                .working(s.working())
+                .build();
+    }
+
+    public static RespRestClusterDto from(PresenceIndex.Entry e) {
+        return RespRestClusterDto.builder()
+                .type("MARKER")
+                .lat(e.lat())
+                .lng(e.lng())
+                .count(1)
+                .working(e.working() ? 1 : 0)
+                .userCode(e.userCode())
+                .userName(e.userName())
+                .build();
+    }
+}
@@ -0,0 +1,19 @@
+package com.dev.trackify_backend.dto.response.rest;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+public class RespRestDailyStatDto {
+    private LocalDate date;
+    private long id;             // cargoId / productId / userId
+    private String name;
+    private int registered;
+    private int completed;
+    private int canceled;
+    private long shippedCount;   // 완료된 작업의 상품 수량 합
+    private Double shippedVolume; // shippedCount * 상품 부피(상품 집계만)
+}
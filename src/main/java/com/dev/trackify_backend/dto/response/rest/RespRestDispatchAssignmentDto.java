@@ -0,0 +1,17 @@
+package com.dev.trackify_backend.dto.response.rest;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class RespRestDispatchAssignmentDto {
+    private int index;               // 요청 목록에서의 위치
+    private long cargoId;
+    private long productId;
+    private int productCount;
+    private String userCode;         // 배정 불가 시 null
+    private String userName;
+    private double distance;
+    private double score;
+}
@@ -0,0 +1,18 @@
+package com.dev.trackify_backend.dto.response.rest;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class RespRestDispatchCandidateDto {
+    private String userCode;
+    private String userName;
+    private double lat;
+    private double lng;
+    private boolean working;
+    private double distance;         // 화물지까지 거리(m)
+    private double freeVolume;       // 남은 적재 용량
+    private double requiredVolume;   // 주문 부피(상품 부피 x 수량)
+    private double score;            // 낮을수록 우선
+}
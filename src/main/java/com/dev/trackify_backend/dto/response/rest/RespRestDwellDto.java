@@ -0,0 +1,17 @@
+package com.dev.trackify_backend.dto.response.rest;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Instant;
+
+@Data
+@Builder
+public class RespRestDwellDto {
+    private long cargoId;
+    private String cargoName;
+    private String userCode;
+    private Instant arrivedAt;
+    private Instant departedAt;
+    private long dwellMs;
+}
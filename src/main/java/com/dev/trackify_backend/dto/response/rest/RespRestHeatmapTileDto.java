@@ -0,0 +1,16 @@
+package com.dev.trackify_backend.dto.response.rest;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class RespRestHeatmapTileDto {
+    private String layer;
+    private int z;
+    private int x;
+    private int y;
+    private int size;       // 한 변의 칸 수(size x size)
+    private int max;        // 타일 안 최대값(색상 스케일용)
+    private int[] bins;     // 행 우선(북 > 남, 서 > 동) 카운트, 빈 타일이면 null
+}
@@ -0,0 +1,17 @@
+package com.dev.trackify_backend.dto.response.rest;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class RespRestJobBatchDto {
+    private int total;
+    private int succeeded;
+    private List<Result> results; // 요청 items 순서와 같음
+
+    // jobId: 등록 성공 시 새 작업 id, 변경/취소는 요청 jobId
+    public record Result(int index, String op, boolean success, Long jobId, String message) {}
+}
@@ -14,4 +14,5 @@ public class RespRestJobDto {
     private double productVolume;
     private int productCount;
     private int status;
+    private Integer version;   // 진행 중 작업의 버전, 없으면 null
 }
@@ -0,0 +1,27 @@
+package com.dev.trackify_backend.dto.response.rest;
+
+import com.dev.trackify_backend.status.PresenceIndex;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class RespRestNearestDto {
+    private String userCode;
+    private String userName;
+    private double lat;
+    private double lng;
+    private boolean working;
+    private double distance;     // 질의 지점까지 거리(m)
+
+    public static RespRestNearestDto from(PresenceIndex.Neighbor n) {
+        return RespRestNearestDto.builder()
+                .userCode(n.entry().userCode())
+                .userName(n.entry().userName())
+                .lat(n.entry().lat())
+                .lng(n.entry().lng())
+                .working(n.entry().working())
+                .distance(n.distanceMeters())
+                .build();
+    }
+}
@@ -10,4 +10,7 @@ public class RespRestRunningJobDto {
     private long productId;
     private int productCount;
     private String paths;
+    private Integer version;     // 변경/완료/취소 요청에 그대로 전달(낙관적 동시성)
+    private Long eta;            // 도착 예상(초), 기사 위치가 없으면 null
+    private Double distance;     // 화물지까지 직선 거리(m), 기사 위치가 없으면 null
 }
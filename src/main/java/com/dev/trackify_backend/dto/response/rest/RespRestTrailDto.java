@@ -0,0 +1,16 @@
+package com.dev.trackify_backend.dto.response.rest;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class RespRestTrailDto {
+    private String userCode;
+    private List<Point> points;  // 오래된 순
+
+    // lat/lng: 1e-5도 단위로 양자화된 좌표, time: epoch ms
+    public record Point(double lat, double lng, long time) {}
+}
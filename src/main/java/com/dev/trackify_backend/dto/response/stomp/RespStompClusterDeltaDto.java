@@ -0,0 +1,16 @@
+package com.dev.trackify_backend.dto.response.stomp;
+
+import com.dev.trackify_backend.dto.response.rest.RespRestClusterDto;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class RespStompClusterDeltaDto {
+    private final String type = "CLUSTER_DELTA";
+    private int zoom;                          // 구독한 줌(클라이언트가 다른 줌이면 무시)
+    private List<RespRestClusterDto> upserts;  // 새로 생기거나 바뀐 셀(cellId 기준 교체)
+    private List<String> removed;              // 비워진(또는 뷰포트에서 빠진) 셀의 cellId
+}
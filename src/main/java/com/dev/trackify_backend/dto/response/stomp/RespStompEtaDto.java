@@ -0,0 +1,19 @@
+package com.dev.trackify_backend.dto.response.stomp;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Instant;
+
+@Data
+@Builder
+public class RespStompEtaDto {
+    private final String type = "ETA";
+    private long jobId;
+    private String userCode;
+    private long cargoId;
+    private double distance;     // 화물지까지 직선 거리(m)
+    private long eta;            // 도착 예상(초), 0 = 도착
+    private double speed;        // 최근 평균 속도(m/s)
+    private Instant respTime;
+}
@@ -0,0 +1,18 @@
+package com.dev.trackify_backend.dto.response.stomp;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Instant;
+
+@Data
+@Builder
+public class RespStompGeofenceDto {
+    private String type;         // "ARRIVE" | "DEPART"
+    private String userCode;
+    private long cargoId;
+    private String cargoName;
+    private Long jobId;          // 진행 중 작업이 없으면 null
+    private long dwellMs;        // DEPART일 때 체류 시간(ms)
+    private Instant respTime;
+}
@@ -0,0 +1,36 @@
+package com.dev.trackify_backend.dto.response.stomp;
+
+import com.dev.trackify_backend.event.JobEvent;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Instant;
+
+@Data
+@Builder
+public class RespStompJobEventDto {
+    private final String type = "JOB";
+    private String event;        // REGISTERED | UPDATED | COMPLETED | CANCELED
+    private long epoch;          // 이벤트 로그 epoch(재개 요청에 그대로 전달)
+    private long seq;            // 단조 증가 순번
+    private long jobId;
+    private String userCode;
+    private long cargoId;
+    private long productId;
+    private int productCount;
+    private Instant respTime;
+
+    public static RespStompJobEventDto from(JobEvent e, long epoch, long seq) {
+        return RespStompJobEventDto.builder()
+                .event(e.type().name())
+                .epoch(epoch)
+                .seq(seq)
+                .jobId(e.jobId())
+                .userCode(e.userCode())
+                .cargoId(e.cargoId())
+                .productId(e.productId())
+                .productCount(e.productCount())
+                .respTime(e.at())
+                .build();
+    }
+}
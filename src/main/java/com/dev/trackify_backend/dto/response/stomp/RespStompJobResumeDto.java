@@ -0,0 +1,16 @@
+package com.dev.trackify_backend.dto.response.stomp;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class RespStompJobResumeDto {
+    private final String type = "JOB_RESUME";
+    private long epoch;
+    private long seq;                           // 이 응답까지 반영된 순번
+    private boolean full;                       // true: 놓친 이벤트를 알 수 없음 > REST로 한 번 다시 조회
+    private List<RespStompJobEventDto> events;  // 놓친 이벤트(오래된 순)
+}
@@ -11,4 +11,5 @@ public class RespStompLeaveDto {
     private final String type = "LEAVE";
     private String userCode;
     private Instant respTime;
+    private Long version;        // 변경 로그 버전(재접속 시 /app/presence/sync에 전달)
 }
@@ -0,0 +1,16 @@
+package com.dev.trackify_backend.dto.response.stomp;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class RespStompReplayDto {
+    private String type;         // START | FRAME | END
+    private String replayId;
+    private List<Point> points;  // FRAME만, 기록 시각 순
+
+    public record Point(String userCode, double lat, double lng, boolean working, long time) {}
+}
@@ -0,0 +1,17 @@
+package com.dev.trackify_backend.dto.response.stomp;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class RespStompSyncDto {
+    private final String type = "SYNC";
+    private long epoch;                       // 변경 로그 epoch(다음 동기화 요청에 그대로 전달)
+    private long version;                     // 이 응답까지 반영된 버전
+    private boolean full;                     // true: presences가 전체 목록(클라이언트 상태 교체)
+    private List<RespStompUserDto> presences; // 추가/갱신된 사용자
+    private List<String> leaves;              // 퇴장한 userCode
+}
@@ -17,6 +17,7 @@ public class RespStompUserDto {
     private long rtt;            // 핑 왕복(ms)
     private Boolean working;
     private Instant respTime;
+    private Long version;        // 변경 로그 버전(재접속 시 /app/presence/sync에 전달)
 
     public static RespStompUserDto from(PresenceStatus.Presence p) {
         return RespStompUserDto.builder()
@@ -0,0 +1,37 @@
+package com.dev.trackify_backend.entity;
+
+import com.dev.trackify_backend.dto.response.rest.RespRestDailyStatDto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class DailyStat {
+    private LocalDate statDate;
+    private long id;
+    private String name;
+    private int registered;
+    private int completed;
+    private int canceled;
+    private long shippedCount;
+    private Double shippedVolume; // 상품 집계에서만 채워짐
+
+    public RespRestDailyStatDto toDto() {
+        return RespRestDailyStatDto.builder()
+                .date(statDate)
+                .id(id)
+                .name(name)
+                .registered(registered)
+                .completed(completed)
+                .canceled(canceled)
+                .shippedCount(shippedCount)
+                .shippedVolume(shippedVolume)
+                .build();
+    }
+}
@@ -24,6 +24,7 @@ public class Job {
     private int status;
     private LocalDateTime startDate;
     private LocalDateTime endDate;
+    private Integer version;
 
     private int cargoCount;
     private String cargoName;
@@ -52,6 +53,7 @@ public class Job {
                 .productId(productId)
                 .productCount(productCount)
                 .paths(paths)
+                .version(version)
                 .build();
     }
 
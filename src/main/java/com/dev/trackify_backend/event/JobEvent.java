@@ -0,0 +1,16 @@
+package com.dev.trackify_backend.event;
+
+import java.time.Instant;
+
+/** RestJobService가 작업 상태를 바꿀 때 발행하는 도메인 이벤트 */
+public record JobEvent(
+        Type type,
+        long jobId,
+        String userCode,   // 알 수 없으면 null
+        long cargoId,
+        long productId,
+        int productCount,
+        Instant at
+) {
+    public enum Type { REGISTERED, UPDATED, COMPLETED, CANCELED }
+}
@@ -0,0 +1,86 @@
+package com.dev.trackify_backend.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/** 역할
+ * @Idempotent 메서드에 대해 Idempotency-Key 헤더 처리
+ * - 컨트롤러 실행(요청 본문 역직렬화) 전에 동작 > 완료된 키의 재시도는 수 MB paths 본문을 읽지도, DB에 쓰지도 않음
+ * - 완료된 키: 저장된 상태/본문 그대로 응답(Idempotent-Replayed: true)
+ * - 처리 중인 키: 409(동시에 들어온 중복 요청)
+ * - 새 키: 선점 후 실행 > 응답 저장은 IdempotencyResponseAdvice, 응답 없이 끝나면 afterCompletion에서 해제
+ * 키 범위: HTTP 메서드 + 경로 + 헤더 값
+ * */
+@Component
+public class IdempotencyInterceptor implements HandlerInterceptor {
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    // 선점한 키(응답 저장 대상), 처리 완료 표시
+    static final String KEY_ATTRIBUTE = IdempotencyInterceptor.class.getName() + ".key";
+    static final String DONE_ATTRIBUTE = IdempotencyInterceptor.class.getName() + ".done";
+
+    private static final int MAX_KEY_LENGTH = 128;
+
+    @Autowired
+    private IdempotencyStore store;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws IOException {
+        if (!(handler instanceof HandlerMethod hm) || !hm.hasMethodAnnotation(Idempotent.class)) return true;
+
+        String key = request.getHeader(HEADER);
+        if (key == null || key.isBlank()) return true;
+        if (key.length() > MAX_KEY_LENGTH) {
+            writeError(response, HttpServletResponse.SC_BAD_REQUEST, "Error: " + HEADER + " is too long");
+            return false;
+        }
+
+        String scoped = request.getMethod() + " " + request.getRequestURI() + " " + key;
+        IdempotencyStore.Record record = store.begin(scoped);
+        if (record == null) {
+            request.setAttribute(KEY_ATTRIBUTE, scoped);
+            return true;
+        }
+
+        if (!record.done()) {
+            writeError(response, HttpServletResponse.SC_CONFLICT, "Error: request with this " + HEADER + " is in progress");
+            return false;
+        }
+
+        response.setStatus(record.status());
+        response.setHeader(REPLAYED_HEADER, "true");
+        if (record.contentType() != null) response.setContentType(record.contentType());
+        if (record.body() != null) response.getOutputStream().write(record.body().getBytes(StandardCharsets.UTF_8));
+        return false;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        // 응답 본문 없이 끝난 경우(처리되지 않은 예외 등) > 선점 해제, 재시도 시 다시 실행
+        String scoped = (String) request.getAttribute(KEY_ATTRIBUTE);
+        if (scoped != null && request.getAttribute(DONE_ATTRIBUTE) == null) {
+            store.release(scoped);
+        }
+    }
+
+    private void writeError(HttpServletResponse response, int status, String message) throws IOException {
+        response.setStatus(status);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), Map.of("message", message));
+    }
+}
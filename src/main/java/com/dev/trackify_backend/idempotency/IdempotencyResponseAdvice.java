@@ -0,0 +1,66 @@
+package com.dev.trackify_backend.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/** 역할
+ * Idempotency-Key를 선점한 요청의 응답 본문을 저장
+ * - 2xx: 상태/Content-Type/본문 저장 > 이후 같은 키는 IdempotencyInterceptor가 그대로 재응답
+ * - 그 외(예외 처리 응답 포함): 선점 해제 > 재시도 시 다시 실행
+ * 본문은 변환기에 넘기기 전 값 그대로 직렬화(String은 원문, 그 외 JSON)
+ * */
+@Slf4j
+@RestControllerAdvice
+public class IdempotencyResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    @Autowired
+    private IdempotencyStore store;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (!(request instanceof ServletServerHttpRequest req) || !(response instanceof ServletServerHttpResponse res)) return body;
+
+        HttpServletRequest servletRequest = req.getServletRequest();
+        String scoped = (String) servletRequest.getAttribute(IdempotencyInterceptor.KEY_ATTRIBUTE);
+        if (scoped == null || servletRequest.getAttribute(IdempotencyInterceptor.DONE_ATTRIBUTE) != null) return body;
+        servletRequest.setAttribute(IdempotencyInterceptor.DONE_ATTRIBUTE, Boolean.TRUE);
+
+        int status = res.getServletResponse().getStatus();
+        if (status < 200 || status >= 300) {
+            store.release(scoped);
+            return body;
+        }
+
+        try {
+            String text = body == null ? null : body instanceof String s ? s : objectMapper.writeValueAsString(body);
+            String contentType = selectedContentType != null ? selectedContentType.toString() : null;
+            store.complete(scoped, new IdempotencyStore.Record(true, status, contentType, text));
+        } catch (JsonProcessingException e) {
+            log.warn("Idempotency response not stored: {}", e.getMessage());
+            store.release(scoped);
+        }
+        return body;
+    }
+}
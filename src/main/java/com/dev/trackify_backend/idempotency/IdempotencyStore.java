@@ -0,0 +1,23 @@
+package com.dev.trackify_backend.idempotency;
+
+/** 역할
+ * Idempotency-Key별 처리 상태/응답 저장소
+ * - begin: 키를 원자적으로 선점(처리 중) > 이미 있으면 기존 기록 반환
+ * - complete: 성공 응답 저장(ttl 동안 재사용)
+ * - release: 실패 시 선점 해제 > 같은 키로 재시도하면 다시 실행
+ * 구현: InMemoryIdempotencyStore(기본), RedisIdempotencyStore(trackify.idempotency.store=redis, 여러 노드 공유)
+ * */
+public interface IdempotencyStore {
+
+    // null: 선점 성공(요청 실행), 그 외: 처리 중이거나 완료된 기록
+    Record begin(String key);
+
+    void complete(String key, Record record);
+
+    void release(String key);
+
+    // done = false: 처리 중
+    record Record(boolean done, int status, String contentType, String body) {
+        public static final Record IN_FLIGHT = new Record(false, 0, null, null);
+    }
+}
@@ -0,0 +1,16 @@
+package com.dev.trackify_backend.idempotency;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/** 역할
+ * 컨트롤러 메서드에 붙이면 Idempotency-Key 헤더를 처리(IdempotencyInterceptor)
+ * - 같은 키로 다시 온 요청은 실행하지 않고 저장된 응답을 그대로 반환
+ * - 헤더가 없으면 기존과 동일하게 매번 실행
+ * */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Idempotent {
+}
@@ -0,0 +1,61 @@
+package com.dev.trackify_backend.idempotency;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/** 역할
+ * 프로세스 내 Idempotency 기록(LRU + 만료)
+ * - 접근 순서 LinkedHashMap > max-entries를 넘으면 가장 오래 안 쓴 키부터 제거
+ * - 응답 본문만 저장(요청 본문/paths는 저장하지 않음) > 항목당 크기가 작음
+ * */
+@Component
+@ConditionalOnProperty(name = "trackify.idempotency.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+    @Value("${trackify.idempotency.max-entries:10000}")
+    private int maxEntries;
+
+    @Value("${trackify.idempotency.ttl-ms:86400000}")
+    private long ttlMs;
+
+    // 처리 중 선점 유효 시간(노드 장애/응답 누락 시 자동 해제)
+    @Value("${trackify.idempotency.in-flight-ttl-ms:60000}")
+    private long inFlightTtlMs;
+
+    private record Entry(Record record, long expiresAt) {}
+
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            return size() > maxEntries;
+        }
+    };
+
+    @Override
+    public synchronized Record begin(String key) {
+        long now = System.currentTimeMillis();
+        Entry e = entries.get(key);
+        if (e != null && e.expiresAt() > now) {
+            return e.record();
+        }
+        entries.put(key, new Entry(Record.IN_FLIGHT, now + inFlightTtlMs));
+        return null;
+    }
+
+    @Override
+    public synchronized void complete(String key, Record record) {
+        entries.put(key, new Entry(record, System.currentTimeMillis() + ttlMs));
+    }
+
+    @Override
+    public synchronized void release(String key) {
+        Entry e = entries.get(key);
+        if (e != null && !e.record().done()) {
+            entries.remove(key);
+        }
+    }
+}
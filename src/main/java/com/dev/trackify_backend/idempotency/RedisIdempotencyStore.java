@@ -0,0 +1,81 @@
+package com.dev.trackify_backend.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/** 역할
+ * Redis 기반 Idempotency 기록 > 여러 노드가 같은 키를 공유(재시도가 다른 노드로 가도 중복 실행 없음)
+ * - begin: SET NX PX(처리 중 표시) > 실패하면 기존 값 조회
+ * - release: 값이 아직 처리 중일 때만 삭제(Lua, 원자적)
+ * - 만료는 Redis TTL에 맡김
+ * */
+@Component
+@ConditionalOnProperty(name = "trackify.idempotency.store", havingValue = "redis")
+public class RedisIdempotencyStore implements IdempotencyStore {
+    private static final String KEY_PREFIX = "idem:";
+
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    @Autowired
+    private StringRedisTemplate redis;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${trackify.idempotency.ttl-ms:86400000}")
+    private long ttlMs;
+
+    @Value("${trackify.idempotency.in-flight-ttl-ms:60000}")
+    private long inFlightTtlMs;
+
+    @Override
+    public Record begin(String key) {
+        String inFlight = write(Record.IN_FLIGHT);
+        // 선점 실패 후 조회 사이에 만료될 수 있음 > 한 번 더 시도
+        for (int attempt = 0; attempt < 2; attempt++) {
+            Boolean reserved = redis.opsForValue().setIfAbsent(KEY_PREFIX + key, inFlight, Duration.ofMillis(inFlightTtlMs));
+            if (Boolean.TRUE.equals(reserved)) return null;
+
+            String value = redis.opsForValue().get(KEY_PREFIX + key);
+            if (value != null) return read(value);
+        }
+        return Record.IN_FLIGHT;
+    }
+
+    @Override
+    public void complete(String key, Record record) {
+        redis.opsForValue().set(KEY_PREFIX + key, write(record), Duration.ofMillis(ttlMs));
+    }
+
+    @Override
+    public void release(String key) {
+        redis.execute(RELEASE_SCRIPT, List.of(KEY_PREFIX + key), write(Record.IN_FLIGHT));
+    }
+
+    private String write(Record record) {
+        try {
+            return objectMapper.writeValueAsString(record);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Error: unable to serialize idempotency record", e);
+        }
+    }
+
+    private Record read(String value) {
+        try {
+            return objectMapper.readValue(value, Record.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Error: unable to read idempotency record", e);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.dev.trackify_backend.logging;
+
+import org.slf4j.Logger;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/** 역할
+ * 고빈도 경로(GPS 틱 등)용 샘플링 로거
+ * - key(userCode 등)별로 intervalMs에 최대 1번만 기록
+ * - 인자는 Supplier로 받아서, 레벨이 꺼져 있거나 샘플링에서 빠지면 toString/포맷팅 자체를 하지 않음
+ * */
+public final class SampledLogger {
+    // key 맵 상한(상한 도달 시 비우고 다시 시작 > 메모리 고정)
+    private static final int MAX_KEYS = 100_000;
+
+    private final Logger log;
+    private final long intervalMs;
+    private final Map<String, Long> lastLoggedAt = new ConcurrentHashMap<>();
+
+    public SampledLogger(Logger log, long intervalMs) {
+        this.log = log;
+        this.intervalMs = intervalMs;
+    }
+
+    public void debug(String key, String format, Supplier<?> arg) {
+        if (!log.isDebugEnabled() || !acquire(key)) return;
+        log.atDebug().addArgument(arg).log(format);
+    }
+
+    public void info(String key, String format, Supplier<?> arg) {
+        if (!log.isInfoEnabled() || !acquire(key)) return;
+        log.atInfo().addArgument(arg).log(format);
+    }
+
+    // key별 기록 가능 여부(동시 호출 시 드물게 2번 기록될 수 있음 > 로그 용도라 허용)
+    private boolean acquire(String key) {
+        long now = System.currentTimeMillis();
+        Long prev = lastLoggedAt.get(key);
+        if (prev != null && now - prev < intervalMs) return false;
+
+        if (lastLoggedAt.size() >= MAX_KEYS) lastLoggedAt.clear();
+        lastLoggedAt.put(key, now);
+        return true;
+    }
+}
@@ -0,0 +1,69 @@
+package com.dev.trackify_backend.logging;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Principal;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/** 역할
+ * 인바운드 STOMP 메시지를 destination별 로거로 DEBUG 기록(기본 꺼짐)
+ * - 로거 이름: trackify.stomp.inbound + destination('/' > '.'), 예) /app/update > trackify.stomp.inbound.app.update
+ * - 운영 중 레벨 변경: POST /actuator/loggers/trackify.stomp.inbound.app.update {"configuredLevel":"DEBUG"}
+ * - 같은 사용자(Principal) 기준 샘플링 > 켜더라도 사용자당 interval에 1건
+ * */
+@Component
+public class StompInboundLoggingInterceptor implements ChannelInterceptor {
+    private static final String LOGGER_PREFIX = "trackify.stomp.inbound";
+    private static final int MAX_DESTINATIONS = 64;
+    private static final int MAX_BODY_CHARS = 512; // 대용량 payload(경로 등) 로그 방지
+
+    @Value("${trackify.logging.sample-interval-ms:5000}")
+    private long sampleIntervalMs;
+
+    private final Map<String, SampledLogger> loggers = new ConcurrentHashMap<>();
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        var headers = message.getHeaders();
+        if (SimpMessageHeaderAccessor.getMessageType(headers) != SimpMessageType.MESSAGE) return message;
+
+        String destination = SimpMessageHeaderAccessor.getDestination(headers);
+        if (destination == null) return message;
+
+        SampledLogger logger = logger(destination);
+        if (logger == null) return message;
+
+        Principal user = SimpMessageHeaderAccessor.getUser(headers);
+        String key = user != null ? user.getName() : String.valueOf(SimpMessageHeaderAccessor.getSessionId(headers));
+        logger.debug(key, "{}", () -> describe(key, message.getPayload()));
+        return message;
+    }
+
+    private SampledLogger logger(String destination) {
+        SampledLogger logger = loggers.get(destination);
+        if (logger != null || loggers.size() >= MAX_DESTINATIONS) return logger;
+
+        return loggers.computeIfAbsent(destination, d -> {
+            Logger log = LoggerFactory.getLogger(LOGGER_PREFIX + d.replace('/', '.'));
+            return new SampledLogger(log, sampleIntervalMs);
+        });
+    }
+
+    private static String describe(String user, Object payload) {
+        String body = payload instanceof byte[] bytes
+                ? new String(bytes, 0, Math.min(bytes.length, MAX_BODY_CHARS), StandardCharsets.UTF_8)
+                : String.valueOf(payload);
+        if (body.length() > MAX_BODY_CHARS) body = body.substring(0, MAX_BODY_CHARS) + "...";
+        return "user=" + user + " payload=" + body;
+    }
+}
@@ -0,0 +1,153 @@
+package com.dev.trackify_backend.metrics;
+
+import com.dev.trackify_backend.event.UserLeaveEvent;
+import io.micrometer.core.instrument.*;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/** 역할
+ * 실시간 위치 공유(Presence/STOMP) 관련 Micrometer 지표를 한 곳에서 관리
+ * /actuator/metrics, /actuator/prometheus 로 노출
+ * - trackify.presence.online: 현재 온라인 Presence 수(스윕 주기마다 갱신)
+ * - trackify.stomp.inbound: 인바운드 메시지 수(destination별)
+ * - trackify.presence.broadcast: 위치 방송 전송/스로틀 억제 수(result=sent|suppressed)
+ * - trackify.presence.broadcast.fanout: 방송 1건당 수신자 수
+ * - trackify.presence.store: PresenceStore 연산 지연(op별)
+ * - trackify.presence.location.coalesced: 비동기 위치 갱신 중 더 최신 좌표로 덮어쓴 수
+ * - trackify.presence.sweep: sweepAndMark 소요 시간
+ * - trackify.presence.leave: 퇴장 이벤트 수(reason별)
+ * - trackify.presence.ping.rtt: onPing에서 계산한 RTT 분포
+ * */
+@Component
+public class PresenceMetrics {
+    // destination 태그 카디널리티 상한(임의 destination 전송으로 인한 지표 폭증 방지)
+    private static final int MAX_DESTINATION_TAGS = 64;
+    private static final String OTHER = "other";
+
+    private final MeterRegistry registry;
+
+    private final AtomicLong online = new AtomicLong();
+    private final Counter broadcastSent;
+    private final Counter broadcastSuppressed;
+    private final DistributionSummary fanOut;
+    private final Counter locationCoalesced;
+    private final Timer sweep;
+    private final Timer pingRtt;
+
+    // 태그별 미터 캐시 > 핫패스에서 registry 조회 비용 절감
+    private final Map<String, Counter> inbound = new ConcurrentHashMap<>();
+    private final Map<String, Timer> storeOps = new ConcurrentHashMap<>();
+    private final Map<String, Counter> leaves = new ConcurrentHashMap<>();
+
+    public PresenceMetrics(MeterRegistry registry) {
+        this.registry = registry;
+
+        Gauge.builder("trackify.presence.online", online, AtomicLong::get)
+                .description("Online presences")
+                .register(registry);
+        broadcastSent = Counter.builder("trackify.presence.broadcast")
+                .tag("result", "sent")
+                .register(registry);
+        broadcastSuppressed = Counter.builder("trackify.presence.broadcast")
+                .tag("result", "suppressed")
+                .register(registry);
+        fanOut = DistributionSummary.builder("trackify.presence.broadcast.fanout")
+                .description("Recipients per broadcast")
+                .publishPercentileHistogram()
+                .register(registry);
+        locationCoalesced = Counter.builder("trackify.presence.location.coalesced")
+                .description("Async location updates replaced by a newer one before being applied")
+                .register(registry);
+        sweep = Timer.builder("trackify.presence.sweep")
+                .description("sweepAndMark duration")
+                .register(registry);
+        pingRtt = Timer.builder("trackify.presence.ping.rtt")
+                .description("Client ping round trip time")
+                .publishPercentileHistogram()
+                .maximumExpectedValue(Duration.ofSeconds(10))
+                .register(registry);
+    }
+
+    public void online(long count) {
+        online.set(count);
+    }
+
+    public void inbound(String destination) {
+        String tag = destination == null ? OTHER : destination;
+        Counter counter = inbound.get(tag);
+        if (counter == null) {
+            if (inbound.size() >= MAX_DESTINATION_TAGS) tag = OTHER;
+            counter = inbound.computeIfAbsent(tag, d -> Counter.builder("trackify.stomp.inbound")
+                    .tag("destination", d)
+                    .register(registry));
+        }
+        counter.increment();
+    }
+
+    public void broadcastSent() {
+        broadcastSent.increment();
+    }
+
+    public void broadcastSuppressed() {
+        broadcastSuppressed.increment();
+    }
+
+    public void locationCoalesced() {
+        locationCoalesced.increment();
+    }
+
+    public void fanOut(int recipients) {
+        fanOut.record(recipients);
+    }
+
+    // PresenceStore 연산 시간 측정
+    public <T> T store(String op, Supplier<T> f) {
+        return storeTimer(op).record(f);
+    }
+
+    public void store(String op, Runnable f) {
+        storeTimer(op).record(f);
+    }
+
+    // 비동기 연산(ReactivePresenceStore): 요청 시점부터 완료 시점까지 측정, 스레드는 점유하지 않음
+    public <T> CompletableFuture<T> storeAsync(String op, Supplier<CompletableFuture<T>> f) {
+        Timer timer = storeTimer(op);
+        long start = System.nanoTime();
+        return f.get().whenComplete((r, e) -> timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+    }
+
+    public Timer.Sample startSweep() {
+        return Timer.start(registry);
+    }
+
+    public void stopSweep(Timer.Sample sample) {
+        sample.stop(sweep);
+    }
+
+    public void pingRtt(long millis) {
+        pingRtt.record(millis, TimeUnit.MILLISECONDS);
+    }
+
+    // 퇴장 이벤트(DISCONNECT | TIMEOUT) 집계
+    @EventListener
+    public void onUserLeave(UserLeaveEvent e) {
+        leaves.computeIfAbsent(String.valueOf(e.reason()), r -> Counter.builder("trackify.presence.leave")
+                .tag("reason", r)
+                .register(registry)).increment();
+    }
+
+    private Timer storeTimer(String op) {
+        return storeOps.computeIfAbsent(op, o -> Timer.builder("trackify.presence.store")
+                .tag("op", o)
+                .publishPercentileHistogram()
+                .register(registry));
+    }
+}
@@ -0,0 +1,25 @@
+package com.dev.trackify_backend.metrics;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+/** 클라이언트 인바운드 채널 인터셉터: SEND(MESSAGE) 프레임 수를 destination별로 집계 */
+@Component
+public class StompInboundMetricsInterceptor implements ChannelInterceptor {
+
+    @Autowired
+    private PresenceMetrics metrics;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if (SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) == SimpMessageType.MESSAGE) {
+            metrics.inbound(SimpMessageHeaderAccessor.getDestination(message.getHeaders()));
+        }
+        return message;
+    }
+}
@@ -3,20 +3,37 @@ package com.dev.trackify_backend.repository;
 import com.dev.trackify_backend.entity.Job;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.session.ResultHandler;
 
+import java.io.Reader;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 @Mapper
 public interface JobMapper {
     void save(Job job);
-    void update(Job job);
-    void complete(Job job);
-    void cancel(long id);
+    int update(Job job);
+    int complete(Job job);
+    int cancel(@Param("id") long id, @Param("version") Integer version);
 
-    Optional<Job> findById(@Param("jobId") long jobId);
+    Optional<Job> findRunningById(@Param("jobId") long jobId);
     Job findByUserId(@Param("userId") long userId);
 
-    List<Job> findByCargoIdAndProductId(@Param("cargoId") Long cargoId, @Param("productId") Long productId);
+    List<Job> findByCargoIdAndProductId(@Param("cargoId") Long cargoId,
+                                        @Param("productId") Long productId,
+                                        @Param("from") LocalDateTime from,
+                                        @Param("to") LocalDateTime to,
+                                        @Param("includeArchive") boolean includeArchive);
     List<Job> findTop3Cargos();
+    List<Job> findRunningJobs();
+    List<Job> findRunningByUserIds(@Param("userIds") List<Long> userIds);
+    List<Job> findStateByIdsForUpdate(@Param("ids") List<Long> ids);
+
+    Integer findStatusById(@Param("jobId") long jobId);
+    void streamPaths(@Param("jobId") long jobId, ResultHandler<Reader> handler);
+
+    List<Long> findArchivableIds(@Param("before") LocalDateTime before, @Param("limit") int limit);
+    int archiveByIds(@Param("ids") List<Long> ids);
+    int deleteByIds(@Param("ids") List<Long> ids);
 }
@@ -0,0 +1,30 @@
+package com.dev.trackify_backend.repository;
+
+import com.dev.trackify_backend.entity.DailyStat;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Mapper
+public interface StatMapper {
+    int rollupCargo(@Param("jobId") long jobId, @Param("status") int status,
+                    @Param("registered") int registered, @Param("completed") int completed, @Param("canceled") int canceled);
+    int rollupProduct(@Param("jobId") long jobId, @Param("status") int status,
+                      @Param("registered") int registered, @Param("completed") int completed, @Param("canceled") int canceled);
+    int rollupUser(@Param("jobId") long jobId, @Param("status") int status,
+                   @Param("registered") int registered, @Param("completed") int completed, @Param("canceled") int canceled);
+
+    int deleteCargoRange(@Param("from") LocalDate from, @Param("to") LocalDate to);
+    int deleteProductRange(@Param("from") LocalDate from, @Param("to") LocalDate to);
+    int deleteUserRange(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    int backfillCargo(@Param("from") LocalDate from, @Param("to") LocalDate to);
+    int backfillProduct(@Param("from") LocalDate from, @Param("to") LocalDate to);
+    int backfillUser(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    List<DailyStat> findCargoStats(@Param("from") LocalDate from, @Param("to") LocalDate to, @Param("id") Long id);
+    List<DailyStat> findProductStats(@Param("from") LocalDate from, @Param("to") LocalDate to, @Param("id") Long id);
+    List<DailyStat> findUserStats(@Param("from") LocalDate from, @Param("to") LocalDate to, @Param("id") Long id);
+}
@@ -4,6 +4,7 @@ import com.dev.trackify_backend.entity.User;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 @Mapper
@@ -17,6 +18,7 @@ public interface UserMapper {
 
     Optional<User> findByUserName(@Param("userName") String userName);
     Optional<User> findByUserCode(@Param("userCode") String userCode);
+    List<User> findByUserCodes(@Param("userCodes") List<String> userCodes);
     Optional<User> findByUserCodeWithModel(@Param("userCode") String userCode);
     Optional<User> findUserNameByUserCode(@Param("userCode") String userCode);
 
@@ -0,0 +1,70 @@
+package com.dev.trackify_backend.service.batch;
+
+import com.dev.trackify_backend.repository.JobMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/** 역할
+ * 완료/취소 후 after-days가 지난 작업을 job_tb > job_archive_tb로 배치 이동
+ * - 배치 1개 = id 목록 선별 > 보관 테이블에 복사 > 원본 삭제(한 트랜잭션)
+ * - 한 번 실행에 max-batches까지만 처리 > 오래 쌓인 데이터도 잠금/복제 지연 없이 나눠서 이동
+ * job_tb에는 진행 중 작업과 최근 작업만 남음 > 작업/이력 조회가 데이터 누적과 무관하게 유지
+ * 이력 조회는 요청 구간이 기준(archiveCutoff)보다 오래된 경우에만 보관 테이블까지 조회
+ * */
+@Slf4j
+@Service
+public class JobArchiveService {
+
+    @Autowired
+    private JobMapper jobMapper;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${trackify.archive.enabled:true}")
+    private boolean enabled;
+
+    @Value("${trackify.archive.after-days:90}")
+    private int afterDays;
+
+    @Value("${trackify.archive.batch-size:500}")
+    private int batchSize;
+
+    @Value("${trackify.archive.max-batches:100}")
+    private int maxBatches;
+
+    // 이 시각 이전에 끝난 작업만 보관 테이블에 있을 수 있음
+    public LocalDateTime archiveCutoff() {
+        return LocalDateTime.now().minusDays(afterDays);
+    }
+
+    @Scheduled(fixedDelayString = "${trackify.archive.interval-ms:3600000}", initialDelay = 60_000)
+    public void archive() {
+        if (!enabled) return;
+
+        LocalDateTime before = archiveCutoff();
+        int moved = 0;
+        for (int i = 0; i < maxBatches; i++) {
+            Integer n = transactionTemplate.execute(status -> {
+                List<Long> ids = jobMapper.findArchivableIds(before, batchSize);
+                if (ids.isEmpty()) return 0;
+                jobMapper.archiveByIds(ids);
+                jobMapper.deleteByIds(ids);
+                return ids.size();
+            });
+            if (n == null || n == 0) break;
+            moved += n;
+            if (n < batchSize) break;
+        }
+        if (moved > 0) {
+            log.info("Archived {} jobs ended before {}", moved, before);
+        }
+    }
+}
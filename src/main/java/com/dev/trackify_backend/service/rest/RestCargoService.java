@@ -9,6 +9,7 @@ import com.dev.trackify_backend.repository.JobMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -34,6 +35,8 @@ public class RestCargoService {
         }
     }
 
+    // 통계 조회는 replica(읽기 전용 트랜잭션)
+    @Transactional(readOnly = true)
     public List<RespRestTopCargoDto> getTopCargoList() {
         List<Job> tempJobList = jobMapper.findTop3Cargos();
         return tempJobList.stream().map(Job::toTopCargoDto).collect(Collectors.toList());
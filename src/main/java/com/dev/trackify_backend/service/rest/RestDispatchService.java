@@ -0,0 +1,115 @@
+package com.dev.trackify_backend.service.rest;
+
+import com.dev.trackify_backend.dto.request.rest.ReqRestDispatchDto;
+import com.dev.trackify_backend.dto.response.rest.RespRestDispatchAssignmentDto;
+import com.dev.trackify_backend.dto.response.rest.RespRestDispatchCandidateDto;
+import com.dev.trackify_backend.entity.Cargo;
+import com.dev.trackify_backend.status.CapacityStatus;
+import com.dev.trackify_backend.status.PresenceIndex;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.stream.IntStream;
+
+/** 역할
+ * 화물지 + 상품 주문에 대해 기사 후보를 점수화(배차 추천)
+ * - 후보: 화물지 근처 온라인 기사(공간 인덱스) 중 남은 적재 용량 >= 주문 부피
+ * - 점수: 화물지까지 거리(m) x (작업 중이면 가중치) > 낮을수록 우선
+ * - 일괄: 주문별 후보 계산은 병렬, 배정은 전체 (주문, 기사) 쌍을 점수순으로 그리디 배정(기사 용량 차감)
+ * 모든 입력은 메모리 상태(PresenceIndex, CapacityStatus)만 사용 > 요청마다 MySQL 조회 없음
+ * */
+@Service
+public class RestDispatchService {
+    private static final int DEFAULT_LIMIT = 5;
+    private static final int MAX_LIMIT = 50;
+    private static final int CANDIDATE_POOL = 200;      // 주문당 거리순 후보 풀
+    private static final double WORKING_PENALTY = 1.5;  // 작업 중 기사 거리 가중치
+
+    @Autowired
+    private PresenceIndex presenceIndex;
+
+    @Autowired
+    private CapacityStatus capacityStatus;
+
+    public List<RespRestDispatchCandidateDto> match(ReqRestDispatchDto reqRestDispatchDto) {
+        int limit = reqRestDispatchDto.getLimit() > 0 ? Math.min(reqRestDispatchDto.getLimit(), MAX_LIMIT) : DEFAULT_LIMIT;
+        List<RespRestDispatchCandidateDto> candidates = candidates(reqRestDispatchDto);
+        return candidates.size() > limit ? candidates.subList(0, limit) : candidates;
+    }
+
+    public List<RespRestDispatchAssignmentDto> matchBatch(List<ReqRestDispatchDto> orders) {
+        // 1) 주문별 후보 병렬 계산(읽기 전용 메모리 상태)
+        List<List<RespRestDispatchCandidateDto>> perOrder = orders.parallelStream()
+                .map(this::candidates)
+                .toList();
+
+        // 2) (주문, 후보) 쌍을 점수순 정렬 후 그리디 배정
+        record Pair(int order, RespRestDispatchCandidateDto candidate) {}
+        List<Pair> pairs = new ArrayList<>();
+        IntStream.range(0, perOrder.size()).forEach(i -> perOrder.get(i).forEach(c -> pairs.add(new Pair(i, c))));
+        pairs.sort(Comparator.comparingDouble(p -> p.candidate().getScore()));
+
+        RespRestDispatchCandidateDto[] assigned = new RespRestDispatchCandidateDto[orders.size()];
+        Map<String, Double> remaining = new HashMap<>();
+        for (Pair p : pairs) {
+            if (assigned[p.order()] != null) continue;
+            RespRestDispatchCandidateDto c = p.candidate();
+            double free = remaining.getOrDefault(c.getUserCode(), c.getFreeVolume());
+            if (free + 1e-9 < c.getRequiredVolume()) continue;
+            remaining.put(c.getUserCode(), free - c.getRequiredVolume());
+            assigned[p.order()] = c;
+        }
+
+        List<RespRestDispatchAssignmentDto> out = new ArrayList<>(orders.size());
+        for (int i = 0; i < orders.size(); i++) {
+            ReqRestDispatchDto order = orders.get(i);
+            RespRestDispatchCandidateDto c = assigned[i];
+            out.add(RespRestDispatchAssignmentDto.builder()
+                    .index(i)
+                    .cargoId(order.getCargoId())
+                    .productId(order.getProductId())
+                    .productCount(order.getProductCount())
+                    .userCode(c != null ? c.getUserCode() : null)
+                    .userName(c != null ? c.getUserName() : null)
+                    .distance(c != null ? c.getDistance() : 0.0)
+                    .score(c != null ? c.getScore() : 0.0)
+                    .build());
+        }
+        return out;
+    }
+
+    // 주문 1건의 후보(점수 오름차순)
+    private List<RespRestDispatchCandidateDto> candidates(ReqRestDispatchDto order) {
+        Cargo cargo = capacityStatus.getCargo(order.getCargoId());
+        if (cargo == null) {
+            throw new NoSuchElementException("Error: NoSuchElementException");
+        }
+        if (order.getProductCount() <= 0) {
+            throw new IllegalArgumentException("Error: productCount must be positive");
+        }
+        double required = capacityStatus.volumeOf(order.getProductId(), order.getProductCount());
+
+        List<RespRestDispatchCandidateDto> out = new ArrayList<>();
+        for (PresenceIndex.Neighbor n : presenceIndex.nearest(cargo.getLat(), cargo.getLng(), CANDIDATE_POOL, null)) {
+            PresenceIndex.Entry e = n.entry();
+            double free = capacityStatus.freeCapacity(e.userCode());
+            if (free + 1e-9 < required) continue;
+
+            double score = n.distanceMeters() * (e.working() ? WORKING_PENALTY : 1.0);
+            out.add(RespRestDispatchCandidateDto.builder()
+                    .userCode(e.userCode())
+                    .userName(e.userName())
+                    .lat(e.lat())
+                    .lng(e.lng())
+                    .working(e.working())
+                    .distance(n.distanceMeters())
+                    .freeVolume(free)
+                    .requiredVolume(required)
+                    .score(score)
+                    .build());
+        }
+        out.sort(Comparator.comparingDouble(RespRestDispatchCandidateDto::getScore));
+        return out;
+    }
+}
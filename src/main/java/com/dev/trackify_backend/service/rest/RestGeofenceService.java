@@ -0,0 +1,18 @@
+package com.dev.trackify_backend.service.rest;
+
+import com.dev.trackify_backend.dto.response.rest.RespRestDwellDto;
+import com.dev.trackify_backend.status.GeofenceStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+public class RestGeofenceService {
+    @Autowired
+    private GeofenceStatus geofenceStatus;
+
+    public List<RespRestDwellDto> getDwells(long jobId) {
+        return geofenceStatus.getDwells(jobId);
+    }
+}
@@ -0,0 +1,39 @@
+package com.dev.trackify_backend.service.rest;
+
+import com.dev.trackify_backend.dto.response.rest.RespRestHeatmapTileDto;
+import com.dev.trackify_backend.status.HeatmapStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+@Service
+public class RestHeatmapService {
+    @Autowired
+    private HeatmapStatus heatmapStatus;
+
+    public RespRestHeatmapTileDto getTile(int z, int x, int y, String layer) {
+        if (z < 0 || z > HeatmapStatus.MAX_ZOOM) {
+            throw new IllegalArgumentException("Error: zoom must be between 0 and " + HeatmapStatus.MAX_ZOOM);
+        }
+        if (x < 0 || y < 0 || x >= (1 << z) || y >= (1 << z)) {
+            throw new IllegalArgumentException("Error: invalid tile coordinate");
+        }
+        HeatmapStatus.Layer l;
+        try {
+            l = HeatmapStatus.Layer.valueOf(layer.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Error: unknown layer " + layer);
+        }
+
+        int[] bins = heatmapStatus.tile(l, z, x, y);
+        return RespRestHeatmapTileDto.builder()
+                .layer(l.name().toLowerCase(Locale.ROOT))
+                .z(z).x(x).y(y)
+                .size(HeatmapStatus.BINS)
+                .max(bins == null ? 0 : Arrays.stream(bins).max().orElse(0))
+                .bins(bins)
+                .build();
+    }
+}
@@ -3,9 +3,12 @@ package com.dev.trackify_backend.service.rest;
 import com.dev.trackify_backend.dto.response.rest.RespRestHistoryDto;
 import com.dev.trackify_backend.entity.Job;
 import com.dev.trackify_backend.repository.JobMapper;
+import com.dev.trackify_backend.service.batch.JobArchiveService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -15,8 +18,19 @@ public class RestHistoryService {
     @Autowired
     private JobMapper jobMapper;
 
-    public List<RespRestHistoryDto> getHistorys(Long cargoId, Long productId) {
-        List<Job> tempHistorys = jobMapper.findByCargoIdAndProductId(cargoId, productId);
+    @Autowired
+    private JobArchiveService jobArchiveService;
+
+    // 이력 조회는 replica(읽기 전용 트랜잭션)
+    // - from이 없거나 보관 기준 이전이면 job_archive_tb까지 함께 조회
+    @Transactional(readOnly = true)
+    public List<RespRestHistoryDto> getHistorys(Long cargoId, Long productId, LocalDateTime from, LocalDateTime to) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("Error: from must be before to");
+        }
+
+        boolean includeArchive = from == null || from.isBefore(jobArchiveService.archiveCutoff());
+        List<Job> tempHistorys = jobMapper.findByCargoIdAndProductId(cargoId, productId, from, to, includeArchive);
         return tempHistorys.stream().map(Job::toDto).collect(Collectors.toList());
     }
 }
@@ -0,0 +1,296 @@
+package com.dev.trackify_backend.service.rest;
+
+import com.dev.trackify_backend.dto.request.rest.ReqRestJobBatchDto;
+import com.dev.trackify_backend.dto.response.rest.RespRestJobBatchDto;
+import com.dev.trackify_backend.entity.Job;
+import com.dev.trackify_backend.entity.User;
+import com.dev.trackify_backend.event.JobEvent;
+import com.dev.trackify_backend.repository.JobMapper;
+import com.dev.trackify_backend.repository.StatMapper;
+import com.dev.trackify_backend.repository.UserMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/** 역할
+ * 작업 등록/변경/취소 일괄 처리(배차 담당자의 대량 주문 적재)
+ * - userCode 전체를 한 번에 조회(대소문자 무시, 단건 API의 _ci 비교와 같음), 사용자별 진행 중 작업도 한 번에 확인
+ * - 요청 순서대로 처리: 항목을 구간(segment)에 모으다가 앞 항목의 결과에 의존하는 항목이 오면 구간을 먼저 전송
+ *   예) [U의 진행 중 작업 취소, U 등록] > 취소 전송 후 결과를 보고 등록 판단
+ *   같은 작업을 두 번 바꾸는 항목도 구간을 나눔 > 한 구간 안의 변경/취소는 모두 서로 다른 작업
+ * - 구간 안의 insert/update는 BATCH 실행기로 모아서 전송(JDBC batch), 전체가 한 트랜잭션
+ * - 항목별 결과 반환: 알 수 없는 사용자/진행 중 작업 중복/상태·버전 불일치는 해당 항목만 실패
+ * - 집계/이벤트는 단건 API와 동일(RestStatService.rollup, RestJobService.publishJobEvent)
+ * 같은 트랜잭션 안에서 실행기 종류를 섞을 수 없음 > 이 서비스의 조회/쓰기는 모두 batchSession 매퍼 사용
+ * */
+@Slf4j
+@Service
+public class RestJobBatchService {
+    public static final String REGISTER = "REGISTER";
+    public static final String UPDATE = "UPDATE";
+    public static final String CANCEL = "CANCEL";
+
+    @Autowired
+    private SqlSessionFactory sqlSessionFactory;
+
+    // 이벤트 발행(단건 API와 같은 경로)
+    @Autowired
+    private RestJobService restJobService;
+
+    @Value("${trackify.job.batch-max-items:1000}")
+    private int maxItems;
+
+    // 빈으로 등록하지 않음 > 기본 SqlSessionTemplate(SIMPLE) 자동 설정을 대체하지 않도록
+    private SqlSessionTemplate batchSession;
+
+    @PostConstruct
+    void init() {
+        batchSession = new SqlSessionTemplate(sqlSessionFactory, ExecutorType.BATCH);
+    }
+
+    @Transactional
+    public RespRestJobBatchDto batch(ReqRestJobBatchDto reqRestJobBatchDto) {
+        List<ReqRestJobBatchDto.Item> items = reqRestJobBatchDto.getItems();
+        if (items == null || items.isEmpty()) {
+            throw new IllegalArgumentException("Error: items are required");
+        }
+        if (items.size() > maxItems) {
+            throw new IllegalArgumentException("Error: too many items (max " + maxItems + ")");
+        }
+
+        Run run = new Run(items);
+        run.loadUsers();
+
+        // 요청 순서대로 적재, 마지막 구간까지 전송
+        for (int i = 0; i < items.size(); i++) {
+            run.add(i);
+        }
+        run.flush();
+
+        log.info("Job batch: {} items, {} succeeded", items.size(), run.succeeded);
+        return RespRestJobBatchDto.builder()
+                .total(items.size())
+                .succeeded(run.succeeded)
+                .results(List.of(run.results))
+                .build();
+    }
+
+    // 요청 1건의 처리 상태
+    private class Run {
+        private final JobMapper jobMapper = batchSession.getMapper(JobMapper.class);
+        private final UserMapper userMapper = batchSession.getMapper(UserMapper.class);
+        private final StatMapper statMapper = batchSession.getMapper(StatMapper.class);
+
+        private final List<ReqRestJobBatchDto.Item> items;
+        private final RespRestJobBatchDto.Result[] results;
+        private final String[] ops;
+        private final Job[] jobs;
+        private final String[] userCodes;
+
+        // userCode(대소문자 무시) > 사용자
+        private final Map<String, User> users = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        // userId > 진행 중 작업 id(이 요청에서 등록해서 아직 id가 없으면 null), 구간 전송마다 갱신
+        private final Map<Long, Long> runningJobByUser = new HashMap<>();
+
+        // 현재 구간(아직 전송하지 않은 항목)
+        private final List<Integer> registers = new ArrayList<>();
+        private final List<Integer> updates = new ArrayList<>();
+        private final List<Integer> cancels = new ArrayList<>();
+        private final Set<Long> segmentJobIds = new HashSet<>();
+
+        private int succeeded;
+
+        Run(List<ReqRestJobBatchDto.Item> items) {
+            int n = items.size();
+            this.items = items;
+            this.results = new RespRestJobBatchDto.Result[n];
+            this.ops = new String[n];
+            this.jobs = new Job[n];
+            this.userCodes = new String[n];
+        }
+
+        // 사용자 일괄 조회 + 사용자별 진행 중 작업(각 1회)
+        void loadUsers() {
+            Set<String> codes = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+            for (int i = 0; i < items.size(); i++) {
+                ReqRestJobBatchDto.Item item = items.get(i);
+                ops[i] = item.getOp() != null ? item.getOp().toUpperCase(Locale.ROOT) : "";
+                if (REGISTER.equals(ops[i]) && item.getUserCode() != null) codes.add(item.getUserCode());
+            }
+            if (codes.isEmpty()) return;
+
+            for (User user : userMapper.findByUserCodes(new ArrayList<>(codes))) {
+                users.put(user.getUserCode(), user);
+            }
+            if (users.isEmpty()) return;
+
+            List<Long> userIds = users.values().stream().map(User::getId).toList();
+            for (Job running : jobMapper.findRunningByUserIds(userIds)) {
+                runningJobByUser.put(running.getUserId(), running.getId());
+            }
+        }
+
+        // 항목 검증 후 현재 구간에 적재, 앞 항목 결과가 필요하면 구간을 먼저 전송
+        void add(int i) {
+            ReqRestJobBatchDto.Item item = items.get(i);
+            switch (ops[i]) {
+                case REGISTER -> {
+                    User user = item.getUserCode() != null ? users.get(item.getUserCode()) : null;
+                    if (user == null) {
+                        results[i] = fail(i, ops[i], null, "Error: NoSuchElementException");
+                        return;
+                    }
+                    // 진행 중 작업의 취소가 아직 전송 전이면 취소 결과를 먼저 확정
+                    Long runningJobId = runningJobByUser.get(user.getId());
+                    if (runningJobId != null && segmentJobIds.contains(runningJobId)) flush();
+
+                    if (runningJobByUser.containsKey(user.getId())) {
+                        results[i] = fail(i, ops[i], null, "Error: Already running job");
+                        return;
+                    }
+                    jobs[i] = item.toSaveEntity(user.getId());
+                    userCodes[i] = user.getUserCode();
+                    runningJobByUser.put(user.getId(), null);
+                    registers.add(i);
+                }
+                case UPDATE, CANCEL -> {
+                    // 같은 작업을 이미 이 구간에서 바꾸는 중이면 먼저 전송
+                    if (segmentJobIds.contains(item.getJobId())) flush();
+
+                    if (UPDATE.equals(ops[i])) {
+                        jobs[i] = item.toUpdateEntity();
+                        updates.add(i);
+                    } else {
+                        jobs[i] = Job.builder().id(item.getJobId()).version(item.getVersion()).build();
+                        cancels.add(i);
+                    }
+                    segmentJobIds.add(item.getJobId());
+                }
+                default -> results[i] = fail(i, ops[i], null, "Error: unknown op " + item.getOp());
+            }
+        }
+
+        // 현재 구간 전송 > 항목별 결과/집계/이벤트 확정
+        void flush() {
+            if (registers.isEmpty() && updates.isEmpty() && cancels.isEmpty()) return;
+
+            // 변경/취소 대상의 현재 상태를 잠금 조회 > 드라이버가 행 수를 주지 않을 때(SUCCESS_NO_INFO) 판정 기준
+            List<Long> changedIds = new ArrayList<>(segmentJobIds);
+            Map<Long, Job> before = new HashMap<>();
+            if (!changedIds.isEmpty()) {
+                for (Job state : jobMapper.findStateByIdsForUpdate(changedIds)) {
+                    before.put(state.getId(), state);
+                }
+            }
+
+            // 변경 대상의 등록 건수를 기존 화물지/상품에서 먼저 뺌(변경 후 다시 더함)
+            RestStatService.rollup(statMapper, jobIds(updates), RestStatService.RUNNING, -1, 0, 0);
+            for (int i : registers) jobMapper.save(jobs[i]);
+            for (int i : updates) jobMapper.update(jobs[i]);
+            for (int i : cancels) jobMapper.cancel(jobs[i].getId(), jobs[i].getVersion());
+
+            // 전송 > 변경 행 수로 항목별 성공 여부 판정(등록 id는 이 시점에 채워짐)
+            List<BatchResult> flushed;
+            try {
+                flushed = batchSession.flushStatements();
+            } catch (DuplicateKeyException e) {
+                // 확인 이후 다른 요청이 먼저 등록한 경우 > 전체 롤백
+                throw new DuplicateKeyException("Error: Already running job", e);
+            }
+            boolean[] applied = applied(flushed, before);
+
+            List<Integer> updated = updates.stream().filter(i -> applied[i]).toList();
+            List<Integer> canceled = cancels.stream().filter(i -> applied[i]).toList();
+
+            // 집계: 등록 +1, 변경 +1(실패한 변경은 -1/+1이 같은 화물지/상품이라 상쇄), 취소 성공만
+            RestStatService.rollup(statMapper, jobIds(registers), RestStatService.RUNNING, 1, 0, 0);
+            RestStatService.rollup(statMapper, jobIds(updates), RestStatService.RUNNING, 1, 0, 0);
+            RestStatService.rollup(statMapper, jobIds(canceled), RestStatService.CANCELED, 0, 0, 1);
+            batchSession.flushStatements();
+
+            // 결과/이벤트(이벤트 리스너는 커밋 후 실행) + 다음 구간을 위한 진행 중 작업 갱신
+            for (int i : registers) {
+                results[i] = new RespRestJobBatchDto.Result(i, ops[i], true, jobs[i].getId(), null);
+                runningJobByUser.put(jobs[i].getUserId(), jobs[i].getId());
+                restJobService.publishJobEvent(JobEvent.Type.REGISTERED, jobs[i], userCodes[i]);
+            }
+            for (int i : updates) {
+                results[i] = applied[i]
+                        ? new RespRestJobBatchDto.Result(i, ops[i], true, jobs[i].getId(), null)
+                        : fail(i, ops[i], jobs[i].getId(), "Error: Job " + jobs[i].getId() + " is not running or was modified");
+            }
+            for (int i : updated) restJobService.publishJobEvent(JobEvent.Type.UPDATED, jobs[i], null);
+            for (int i : cancels) {
+                results[i] = applied[i]
+                        ? new RespRestJobBatchDto.Result(i, ops[i], true, jobs[i].getId(), null)
+                        : fail(i, ops[i], jobs[i].getId(), "Error: Job " + jobs[i].getId() + " is not running or was modified");
+            }
+            Set<Long> canceledIds = new HashSet<>(jobIds(canceled));
+            runningJobByUser.values().removeIf(canceledIds::contains);
+            for (int i : canceled) restJobService.publishJobEvent(JobEvent.Type.CANCELED, jobs[i], null);
+
+            succeeded += registers.size() + updated.size() + canceled.size();
+            registers.clear();
+            updates.clear();
+            cancels.clear();
+            segmentJobIds.clear();
+        }
+
+        // BatchResult는 큐 적재 순서대로 나옴 > 문장 종류별로 순서대로 항목에 대응
+        // - SUCCESS_NO_INFO(rewriteBatchedStatements 등): 행 수를 알 수 없음 > 잠금 조회한 전송 전 상태로 판정
+        //   (진행 중 + 버전 일치면 조건부 update가 반영됨, 커밋까지 다른 요청이 바꿀 수 없음)
+        private boolean[] applied(List<BatchResult> flushed, Map<Long, Job> before) {
+            boolean[] applied = new boolean[jobs.length];
+            int u = 0;
+            int c = 0;
+            for (BatchResult br : flushed) {
+                String id = br.getMappedStatement().getId();
+                boolean isUpdate = id.endsWith(".update");
+                boolean isCancel = id.endsWith(".cancel");
+                if (!isUpdate && !isCancel) continue;
+
+                for (int count : br.getUpdateCounts()) {
+                    int index = isUpdate ? updates.get(u++) : cancels.get(c++);
+                    applied[index] = count == Statement.SUCCESS_NO_INFO
+                            ? appliesTo(before.get(jobs[index].getId()), jobs[index].getVersion())
+                            : count > 0;
+                }
+            }
+            return applied;
+        }
+
+        private List<Long> jobIds(List<Integer> indexes) {
+            return indexes.stream().map(i -> jobs[i].getId()).toList();
+        }
+    }
+
+    // runningVersionCheck(JobMapper.xml)와 같은 조건
+    private static boolean appliesTo(Job state, Integer version) {
+        return state != null
+                && state.getStatus() == RestStatService.RUNNING
+                && (version == null || version.equals(state.getVersion()));
+    }
+
+    private static RespRestJobBatchDto.Result fail(int index, String op, Long jobId, String message) {
+        return new RespRestJobBatchDto.Result(index, op, false, jobId, message);
+    }
+}
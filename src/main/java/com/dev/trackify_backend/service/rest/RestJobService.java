@@ -3,15 +3,23 @@ package com.dev.trackify_backend.service.rest;
 import com.dev.trackify_backend.dto.request.rest.ReqRestJobDto;
 import com.dev.trackify_backend.dto.response.rest.RespRestJobDto;
 import com.dev.trackify_backend.dto.response.rest.RespRestRunningJobDto;
+import com.dev.trackify_backend.config.ReplicaLagGuard;
 import com.dev.trackify_backend.entity.Job;
 import com.dev.trackify_backend.entity.User;
+import com.dev.trackify_backend.event.JobEvent;
 import com.dev.trackify_backend.repository.JobMapper;
 import com.dev.trackify_backend.repository.UserMapper;
+import com.dev.trackify_backend.status.CapacityStatus;
+import com.dev.trackify_backend.status.EtaStatus;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.NoSuchElementException;
 
 @Slf4j
@@ -23,22 +31,58 @@ public class RestJobService {
     @Autowired
     private UserMapper userMapper;
 
-    public RespRestRunningJobDto getJobById(long jobId) {
-        Job tempJob = jobMapper.findById(jobId)
-                .orElseThrow(() -> new NoSuchElementException("Error: NoSuchElementException"));
+    // 진행 중 작업 메모리 상태(jobId > userCode 조회용)
+    @Autowired
+    private CapacityStatus capacityStatus;
 
-        if(tempJob.getStatus() == 2) {
-            throw new RuntimeException("Error: Already Completed Job");
-        }
+    // 작업 변경 이벤트 발행(배차 후보 상태 등 증분 갱신)
+    @Autowired
+    private ApplicationEventPublisher publisher;
+
+    // 진행 중 작업 ETA(위치 틱마다 증분 계산된 값)
+    @Autowired
+    private EtaStatus etaStatus;
+
+    // 쓰기 직후 조회(read-after-write)는 primary에서
+    @Autowired
+    private ReplicaLagGuard replicaLagGuard;
+
+    // 일별 집계 증분 갱신(작업 변경과 같은 트랜잭션)
+    @Autowired
+    private RestStatService restStatService;
 
-        if(tempJob.getStatus() == 0) {
-            throw new RuntimeException("Error: Canceled job");
+    // 진행 중 작업만 조회(status 조건은 SQL에서), 없을 때만 상태를 확인해서 오류 구분
+    @Transactional(readOnly = true)
+    public RespRestRunningJobDto getJobById(long jobId) {
+        Job tempJob = replicaLagGuard.read(ReplicaLagGuard.jobKey(jobId),
+                () -> jobMapper.findRunningById(jobId).orElseThrow(() -> notRunning(jobId)));
+
+        RespRestRunningJobDto dto = tempJob.toRunningJobDto();
+        EtaStatus.Estimate estimate = etaStatus.getEstimate(jobId);
+        if (estimate != null) {
+            dto.setEta(estimate.etaSeconds());
+            dto.setDistance(estimate.distanceMeters());
         }
+        return dto;
+    }
 
-        return tempJob.toRunningJobDto();
+    private RuntimeException notRunning(long jobId) {
+        Integer status = jobMapper.findStatusById(jobId);
+        if (status == null) {
+            return new NoSuchElementException("Error: NoSuchElementException");
+        }
+        if (status == 2) {
+            return new RuntimeException("Error: Already Completed Job");
+        }
+        return new RuntimeException("Error: Canceled job");
     }
 
+    @Transactional(readOnly = true)
     public RespRestJobDto getJob(String userCode) {
+        return replicaLagGuard.read(ReplicaLagGuard.userKey(userCode), () -> findJob(userCode));
+    }
+
+    private RespRestJobDto findJob(String userCode) {
         User tempUser = userMapper.findByUserCodeWithModel(userCode)
                 .orElseThrow(() -> new NoSuchElementException("Error: NoSuchElementException"));
 
@@ -64,6 +108,7 @@ public class RestJobService {
                     .productName(tempJob.getProduct() != null ? tempJob.getProduct().getProductName() : "")
                     .productVolume(tempJob.getProduct() != null ? tempJob.getProduct().getVolume() : 0.0)
                     .productCount(tempJob.getProductCount())
+                    .version(tempJob.getVersion())
                     .status(1); // 진행중일 때만 1로 세팅
         }
 
@@ -77,36 +122,95 @@ public class RestJobService {
 
         Job job = reqRestJobDto.toSaveEntity(tempUser.getId());
 
+        // 사용자당 진행 중 작업 1건은 DB unique 인덱스가 보장(선조회 없음) > 동시 등록은 한 건만 성공
         try {
             jobMapper.save(job);
-            return job.getId();
+        } catch (DuplicateKeyException e) {
+            throw new DuplicateKeyException("Error: Already running job", e);
         } catch (Exception e) {
             throw new RuntimeException("등록 중 오류 발생");
         }
+
+        restStatService.recordRegistered(job.getId());
+        publishJobEvent(JobEvent.Type.REGISTERED, job, tempUser.getUserCode());
+        return job.getId();
     }
 
+    // 상태 전이는 조건부 update 1회(진행 중 + 버전 일치)
+    // - 변경된 행이 없으면 이미 완료/취소됐거나 다른 요청이 먼저 변경한 것 > 409(롤백, 집계/이벤트 없음)
+    @Transactional
     public void updateJob(ReqRestJobDto reqRestJobDto) {
+        Job job = reqRestJobDto.toUpdateEntity();
+        int updated;
         try {
-            jobMapper.update(reqRestJobDto.toUpdateEntity());
+            // 등록 건수를 기존 화물지/상품에서 빼고, 변경 후 새 화물지/상품에 더함
+            restStatService.recordUnregistered(job.getId());
+            updated = jobMapper.update(job);
         } catch (Exception e) {
             throw new RuntimeException("업데이트 중 오류 발생");
         }
+        checkUpdated(updated, job.getId());
+
+        restStatService.recordRegistered(job.getId());
+        publishJobEvent(JobEvent.Type.UPDATED, job, null);
     }
 
+    @Transactional
     public void completeJob(ReqRestJobDto reqRestJobDto) {
+        Job job = reqRestJobDto.toCompleteEntity();
+        int updated;
         try {
-            jobMapper.complete(reqRestJobDto.toCompleteEntity());
+            updated = jobMapper.complete(job);
         } catch (Exception e) {
             throw new RuntimeException("완료 중 오류 발생");
         }
+        checkUpdated(updated, job.getId());
+
+        restStatService.recordCompleted(job.getId());
+        publishJobEvent(JobEvent.Type.COMPLETED, job, null);
     }
 
-    public void cancelJob(long id) {
+    @Transactional
+    public void cancelJob(long id, Integer version) {
+        int updated;
         try {
-            jobMapper.cancel(id);
+            updated = jobMapper.cancel(id, version);
         } catch (Exception e) {
             throw new RuntimeException("취소 중 오류 발생");
         }
+        checkUpdated(updated, id);
+
+        restStatService.recordCanceled(id);
+        publishJobEvent(JobEvent.Type.CANCELED, Job.builder().id(id).build(), null);
+    }
+
+    private void checkUpdated(int updated, long jobId) {
+        if (updated == 0) {
+            throw new OptimisticLockingFailureException("Error: Job " + jobId + " is not running or was modified");
+        }
+    }
+
+    // 작업 이벤트 발행
+    // - userCode/화물지/상품이 요청에 없으면 진행 중 작업 메모리 상태에서 보완(DB 재조회 없음)
+    public void publishJobEvent(JobEvent.Type type, Job job, String userCode) {
+        CapacityStatus.RunningJob running = capacityStatus.getRunningJob(job.getId());
+        long cargoId = job.getCargoId();
+        long productId = job.getProductId();
+        int productCount = job.getProductCount();
+
+        if (running != null) {
+            if (userCode == null) userCode = running.userCode();
+            if (type != JobEvent.Type.UPDATED) {
+                cargoId = running.cargoId();
+                productId = running.productId();
+                productCount = running.productCount();
+            }
+        }
+
+        replicaLagGuard.markWrite(ReplicaLagGuard.jobKey(job.getId()));
+        if (userCode != null) replicaLagGuard.markWrite(ReplicaLagGuard.userKey(userCode));
+
+        publisher.publishEvent(new JobEvent(type, job.getId(), userCode, cargoId, productId, productCount, Instant.now()));
     }
 }
 
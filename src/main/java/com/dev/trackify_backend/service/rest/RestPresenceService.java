@@ -0,0 +1,101 @@
+package com.dev.trackify_backend.service.rest;
+
+import com.dev.trackify_backend.dto.response.rest.RespRestClusterDto;
+import com.dev.trackify_backend.dto.response.rest.RespRestNearestDto;
+import com.dev.trackify_backend.dto.response.rest.RespRestTrailDto;
+import com.dev.trackify_backend.status.ClusterStatus;
+import com.dev.trackify_backend.status.PresenceIndex;
+import com.dev.trackify_backend.status.TrailStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+@Service
+public class RestPresenceService {
+    private static final int MAX_K = 100;
+
+    @Autowired
+    private PresenceIndex presenceIndex;
+
+    @Autowired
+    private ClusterStatus clusterStatus;
+
+    @Autowired
+    private TrailStatus trailStatus;
+
+    // 이 줌 이상이면 클러스터 대신 개별 마커
+    @Value("${trackify.cluster.marker-zoom:13}")
+    private int markerZoom;
+
+    // 가까운 기사 k명(working 상태 일치), 가까운 순
+    public List<RespRestNearestDto> getNearest(double lat, double lng, int k, boolean working) {
+        if (k < 1 || k > MAX_K) {
+            throw new IllegalArgumentException("Error: k must be between 1 and " + MAX_K);
+        }
+        if (lat < -90 || lat > 90 || lng < -180 || lng > 180) {
+            throw new IllegalArgumentException("Error: invalid coordinate");
+        }
+
+        return presenceIndex.nearest(lat, lng, k, working).stream()
+                .map(RespRestNearestDto::from)
+                .toList();
+    }
+
+    // 뷰포트의 클러스터(줌 아웃) 또는 개별 마커(줌 인)
+    public List<RespRestClusterDto> getClusters(int zoom, double south, double west, double north, double east) {
+        validateViewport(zoom, south, west, north, east);
+
+        // 날짜변경선을 걸친 뷰포트(west > east)는 두 구간으로 나눠 조회
+        if (west > east) {
+            List<RespRestClusterDto> left = getClusters(zoom, south, west, north, 180);
+            List<RespRestClusterDto> right = getClusters(zoom, south, -180, north, east);
+            return Stream.concat(left.stream(), right.stream()).toList();
+        }
+
+        if (zoom >= markerZoom || zoom > ClusterStatus.MAX_CLUSTER_ZOOM) {
+            return presenceIndex.within(south, west, north, east).stream()
+                    .map(RespRestClusterDto::from)
+                    .toList();
+        }
+        return clusterStatus.clusters(zoom, south, west, north, east).stream()
+                .map(RespRestClusterDto::from)
+                .toList();
+    }
+
+    // STOMP 지도 구독: 클러스터 줌이면 델타 구독(기사별 이벤트 중단), 마커 줌이면 구독 해제 후 개별 마커
+    public List<RespRestClusterDto> watchClusters(String userCode, int zoom, double south, double west, double north, double east) {
+        validateViewport(zoom, south, west, north, east);
+
+        if (zoom >= markerZoom || zoom > ClusterStatus.MAX_CLUSTER_ZOOM) {
+            clusterStatus.unwatch(userCode);
+            return getClusters(zoom, south, west, north, east);
+        }
+        return clusterStatus.watch(userCode, zoom, south, west, north, east).stream()
+                .map(RespRestClusterDto::from)
+                .toList();
+    }
+
+    public void unwatchClusters(String userCode) {
+        clusterStatus.unwatch(userCode);
+    }
+
+    private static void validateViewport(int zoom, double south, double west, double north, double east) {
+        if (zoom < 0 || zoom > 22) {
+            throw new IllegalArgumentException("Error: zoom must be between 0 and 22");
+        }
+        if (south < -90 || north > 90 || south > north || west < -180 || east > 180) {
+            throw new IllegalArgumentException("Error: invalid viewport");
+        }
+    }
+
+    // 최근 궤적(오래된 순), 오프라인이면 빈 목록
+    public RespRestTrailDto getTrail(String userCode) {
+        return RespRestTrailDto.builder()
+                .userCode(userCode)
+                .points(trailStatus.getTrail(userCode))
+                .build();
+    }
+}
@@ -0,0 +1,135 @@
+package com.dev.trackify_backend.service.rest;
+
+import com.dev.trackify_backend.dto.response.rest.RespRestDailyStatDto;
+import com.dev.trackify_backend.entity.DailyStat;
+import com.dev.trackify_backend.repository.StatMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/** 역할
+ * 일별 집계(화물지/상품/사용자) 유지 및 조회
+ * - 작업 등록/변경/완료/취소 시 같은 트랜잭션에서 해당 일자 행만 증분 갱신(upsert)
+ * - 조회는 집계 테이블만 읽음 > 비용이 작업 수가 아니라 일 수에 비례
+ * - 백필: 구간 집계를 지우고 job_tb + job_archive_tb에서 다시 계산(초기 적재는 V4 마이그레이션)
+ * */
+@Slf4j
+@Service
+public class RestStatService {
+    // job_tb.status
+    static final int CANCELED = 0;
+    static final int RUNNING = 1;
+    static final int COMPLETED = 2;
+
+    @Autowired
+    private StatMapper statMapper;
+
+    // 기본 조회 구간(오늘 포함 일 수)
+    @Value("${trackify.stats.default-days:30}")
+    private int defaultDays;
+
+    // 조회/백필 최대 구간(일)
+    @Value("${trackify.stats.max-days:366}")
+    private int maxDays;
+
+    // 등록(+1) > 등록일 기준
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordRegistered(long jobId) {
+        rollup(jobId, RUNNING, 1, 0, 0);
+    }
+
+    // 진행 중 작업의 화물지/상품 변경 전(-1)/후(+1) > 등록 건수를 새 화물지/상품으로 이동
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordUnregistered(long jobId) {
+        rollup(jobId, RUNNING, -1, 0, 0);
+    }
+
+    // 완료 > 종료일 기준, 상품 수량 합산
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCompleted(long jobId) {
+        rollup(jobId, COMPLETED, 0, 1, 0);
+    }
+
+    // 취소 > 종료일 기준
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCanceled(long jobId) {
+        rollup(jobId, CANCELED, 0, 0, 1);
+    }
+
+    private void rollup(long jobId, int status, int registered, int completed, int canceled) {
+        rollup(statMapper, List.of(jobId), status, registered, completed, canceled);
+    }
+
+    // 테이블 순으로 반복 > BATCH 실행기에서 같은 SQL이 연속되어 한 번에 전송됨(RestJobBatchService)
+    static void rollup(StatMapper mapper, Collection<Long> jobIds, int status, int registered, int completed, int canceled) {
+        for (long jobId : jobIds) mapper.rollupCargo(jobId, status, registered, completed, canceled);
+        for (long jobId : jobIds) mapper.rollupProduct(jobId, status, registered, completed, canceled);
+        for (long jobId : jobIds) mapper.rollupUser(jobId, status, registered, completed, canceled);
+    }
+
+    @Transactional(readOnly = true)
+    public List<RespRestDailyStatDto> getCargoStats(LocalDate from, LocalDate to, Long cargoId) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(defaultDays - 1);
+        checkRange(start, end);
+        return toDtos(statMapper.findCargoStats(start, end, cargoId));
+    }
+
+    @Transactional(readOnly = true)
+    public List<RespRestDailyStatDto> getProductStats(LocalDate from, LocalDate to, Long productId) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(defaultDays - 1);
+        checkRange(start, end);
+        return toDtos(statMapper.findProductStats(start, end, productId));
+    }
+
+    @Transactional(readOnly = true)
+    public List<RespRestDailyStatDto> getUserStats(LocalDate from, LocalDate to, Long userId) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(defaultDays - 1);
+        checkRange(start, end);
+        return toDtos(statMapper.findUserStats(start, end, userId));
+    }
+
+    // 구간 재계산(삭제 후 다시 집계, 한 트랜잭션)
+    // - 반환값: 새로 쓴 집계 행 수
+    @Transactional
+    public int backfill(LocalDate from, LocalDate to) {
+        checkRange(from, to);
+
+        statMapper.deleteCargoRange(from, to);
+        statMapper.deleteProductRange(from, to);
+        statMapper.deleteUserRange(from, to);
+
+        int rows = statMapper.backfillCargo(from, to)
+                + statMapper.backfillProduct(from, to)
+                + statMapper.backfillUser(from, to);
+        log.info("Backfilled daily stats {} ~ {} ({} rows)", from, to, rows);
+        return rows;
+    }
+
+    private void checkRange(LocalDate from, LocalDate to) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("Error: from and to are required");
+        }
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("Error: from must be before to");
+        }
+        if (ChronoUnit.DAYS.between(from, to) + 1 > maxDays) {
+            throw new IllegalArgumentException("Error: range exceeds " + maxDays + " days");
+        }
+    }
+
+    private static List<RespRestDailyStatDto> toDtos(List<DailyStat> stats) {
+        return stats.stream().map(DailyStat::toDto).collect(Collectors.toList());
+    }
+}
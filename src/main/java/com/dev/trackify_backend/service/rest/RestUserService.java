@@ -1,5 +1,6 @@
 package com.dev.trackify_backend.service.rest;
 
+import com.dev.trackify_backend.config.ReplicaLagGuard;
 import com.dev.trackify_backend.dto.request.rest.ReqRestUserDto;
 import com.dev.trackify_backend.dto.response.rest.RespRestUserDto;
 import com.dev.trackify_backend.entity.User;
@@ -16,6 +17,10 @@ public class RestUserService {
     @Autowired
     private UserMapper userMapper;
 
+    // 가입 직후 접속(connect) 조회는 primary에서
+    @Autowired
+    private ReplicaLagGuard replicaLagGuard;
+
     public boolean validateUser(String userCode) {
         return userMapper.findByUserCode(userCode).isPresent();
     }
@@ -31,6 +36,7 @@ public class RestUserService {
         } catch (Exception e) {
             throw  new RuntimeException("Error: save_user", e);
         }
+        replicaLagGuard.markWrite(ReplicaLagGuard.userKey(reqRestUserDto.getUserCode()));
     }
 
     public RespRestUserDto getMyInfo(String userCode) {
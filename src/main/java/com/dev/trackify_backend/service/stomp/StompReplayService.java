@@ -0,0 +1,306 @@
+package com.dev.trackify_backend.service.stomp;
+
+import com.dev.trackify_backend.dto.request.stomp.ReqStompPlaybackDto;
+import com.dev.trackify_backend.dto.request.stomp.ReqStompReplayDto;
+import com.dev.trackify_backend.dto.response.stomp.RespStompReplayDto;
+import com.dev.trackify_backend.repository.JobMapper;
+import com.dev.trackify_backend.status.LocationLog;
+import com.dev.trackify_backend.util.PathPointParser;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/** 역할
+ * 기록된 위치를 기록 시각 간격 / 배속으로 다시 흘려보냄
+ * - 위치 로그(LocationLog) 구간 재생 > /user/queue/replay
+ * - 완료된 작업 경로(job_tb.paths) 재생 > /user/queue/playback
+ * 소스(Source)에서 한 프레임씩 읽어서 전송 > 긴 구간/경로도 메모리에 올리지 않고 재생
+ * 프레임: 100ms(재생 시간) 안의 레코드를 묶어서 1건, 기록 사이 공백은 최대 MAX_GAP_MS로 압축
+ * 요청자(Principal)당 재생 1개(두 종류 공통), 새 재생을 시작하면 이전 재생은 중단
+ * */
+@Slf4j
+@Service
+public class StompReplayService {
+    public static final String REPLAY_DESTINATION = "/queue/replay";
+    public static final String PLAYBACK_DESTINATION = "/queue/playback";
+    private static final int JOB_STATUS_COMPLETED = 2;
+
+    private static final long FRAME_MS = 100;
+    private static final long MAX_GAP_MS = 2_000;
+    private static final int MAX_POINTS_PER_FRAME = 500;
+    private static final long MAX_RANGE_MS = TimeUnit.HOURS.toMillis(24);
+    private static final AtomicInteger THREADS = new AtomicInteger();
+
+    @Autowired
+    private LocationLog locationLog;
+
+    @Autowired
+    private SimpMessagingTemplate broker;
+
+    @Autowired
+    private JobMapper jobMapper;
+
+    // 경로에 시각이 없을 때 지점 간 간격(1배속 기준)
+    @Value("${trackify.playback.default-interval-ms:1000}")
+    private long defaultIntervalMs;
+
+    @Value("${trackify.replay.max-sessions:16}")
+    private int maxSessions;
+
+    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2, r -> {
+        Thread t = new Thread(r, "replay-" + THREADS.incrementAndGet());
+        t.setDaemon(true);
+        return t;
+    });
+
+    // 재생할 지점 공급원(시각 오름차순), 끝이면 null
+    private interface Source extends AutoCloseable {
+        RespStompReplayDto.Point next() throws Exception;
+
+        @Override
+        default void close() throws Exception {}
+    }
+
+    // 재생 1건: 다음 지점을 미리 읽어 두고(lookahead) 프레임 단위로 전송
+    private final class Session {
+        private final String id = UUID.randomUUID().toString();
+        private final String viewer;
+        private final String destination;
+        private final Source source;
+        private final double speed;
+        private RespStompReplayDto.Point next;
+        private volatile boolean canceled;
+
+        private Session(String viewer, String destination, Source source, double speed) {
+            this.viewer = viewer;
+            this.destination = destination;
+            this.source = source;
+            this.speed = speed;
+        }
+    }
+
+    private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    // 위치 로그 재생 시작 > replayId 반환(START 메시지로도 전달)
+    public String start(String viewer, ReqStompReplayDto req) {
+        if (req.getTo() <= req.getFrom() || req.getTo() - req.getFrom() > MAX_RANGE_MS) {
+            throw new IllegalArgumentException("Error: replay range must be between 0 and 24 hours");
+        }
+        double speed = speedOf(req.getSpeed());
+
+        double[] bbox = null;
+        if (req.getSouth() != null && req.getWest() != null && req.getNorth() != null && req.getEast() != null) {
+            bbox = new double[]{ req.getSouth(), req.getWest(), req.getNorth(), req.getEast() };
+        }
+        if (req.getUserCode() == null && bbox == null) {
+            throw new IllegalArgumentException("Error: userCode or region is required");
+        }
+
+        LocationLog.Cursor cursor = locationLog.cursor(req.getFrom(), req.getTo(), req.getUserCode(), bbox);
+        Source source = new Source() {
+            @Override
+            public RespStompReplayDto.Point next() {
+                LocationLog.Entry e = cursor.next();
+                return e == null ? null : new RespStompReplayDto.Point(e.userCode(), e.lat(), e.lng(), e.working(), e.time());
+            }
+
+            @Override
+            public void close() {
+                cursor.close(); // 읽던 세그먼트 참조 반환
+            }
+        };
+        return begin(viewer, REPLAY_DESTINATION, source, speed);
+    }
+
+    // 완료된 작업 경로 재생 시작
+    // - paths를 한 번의 스트리밍 조회로 임시 파일에 옮김 > DB 연결은 재생 시간 동안 잡지 않음
+    //   재생은 임시 파일을 스트리밍 파싱(메모리에 경로 전체를 올리지 않음), 끝나면 파일 삭제
+    // - 지점에 시각이 없으면 defaultIntervalMs 간격으로 가정
+    public String startPlayback(String viewer, ReqStompPlaybackDto req) {
+        Integer status = jobMapper.findStatusById(req.getJobId());
+        if (status == null) {
+            throw new NoSuchElementException("Error: job not found");
+        }
+        if (status != JOB_STATUS_COMPLETED) {
+            throw new IllegalArgumentException("Error: only completed jobs can be played back");
+        }
+        double speed = speedOf(req.getSpeed());
+
+        Path spool = spoolPaths(req.getJobId());
+        PathPointParser parser;
+        try {
+            parser = new PathPointParser(Files.newBufferedReader(spool, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            deleteQuietly(spool);
+            throw new UncheckedIOException(e);
+        }
+
+        Source source = new Source() {
+            private long synthetic = 0;
+
+            @Override
+            public RespStompReplayDto.Point next() throws Exception {
+                double[] p = parser.next();
+                if (p == null) return null;
+                long time = Double.isNaN(p[2]) ? synthetic : (long) p[2];
+                synthetic += defaultIntervalMs;
+                return new RespStompReplayDto.Point(null, p[0], p[1], true, time);
+            }
+
+            @Override
+            public void close() throws Exception {
+                try {
+                    parser.close();
+                } finally {
+                    deleteQuietly(spool);
+                }
+            }
+        };
+        return begin(viewer, PLAYBACK_DESTINATION, source, speed);
+    }
+
+    // paths > 임시 파일(UTF-8), 행이 없으면 빈 파일
+    private Path spoolPaths(long jobId) {
+        Path spool;
+        try {
+            spool = Files.createTempFile("trackify-playback-", ".json");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        try {
+            jobMapper.streamPaths(jobId, ctx -> {
+                try (Reader in = ctx.getResultObject();
+                     Writer out = Files.newBufferedWriter(spool, StandardCharsets.UTF_8)) {
+                    if (in != null) in.transferTo(out);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (RuntimeException e) {
+            deleteQuietly(spool);
+            throw e;
+        }
+        return spool;
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.debug("Failed to delete playback spool {}: {}", file, e.getMessage());
+        }
+    }
+
+    private static double speedOf(double requested) {
+        double speed = requested > 0 ? requested : 1.0;
+        if (speed > 1000) {
+            throw new IllegalArgumentException("Error: speed must be at most 1000");
+        }
+        return speed;
+    }
+
+    private String begin(String viewer, String destination, Source source, double speed) {
+        Session prev = sessions.remove(viewer);
+        if (prev != null) prev.canceled = true;
+        if (sessions.size() >= maxSessions) {
+            closeQuietly(source);
+            throw new IllegalStateException("Error: too many active replays");
+        }
+
+        Session s = new Session(viewer, destination, source, speed);
+        sessions.put(viewer, s);
+        send(s, "START", null);
+        scheduler.execute(() -> step(s));
+        return s.id;
+    }
+
+    public void stop(String viewer, String replayId) {
+        sessions.computeIfPresent(viewer, (k, s) -> {
+            if (replayId != null && !replayId.equals(s.id)) return s;
+            s.canceled = true;
+            return null;
+        });
+    }
+
+    // 프레임 1개 전송 후 다음 프레임 예약
+    private void step(Session s) {
+        if (s.canceled) {
+            closeQuietly(s.source);
+            return;
+        }
+        try {
+            if (s.next == null) s.next = s.source.next();
+            if (s.next == null) {
+                finish(s);
+                return;
+            }
+
+            long frameStart = s.next.time();
+            long frameEnd = frameStart + (long) (FRAME_MS * s.speed);
+            List<RespStompReplayDto.Point> points = new ArrayList<>();
+            while (s.next != null && s.next.time() < frameEnd && points.size() < MAX_POINTS_PER_FRAME) {
+                points.add(s.next);
+                s.next = s.source.next();
+            }
+            send(s, "FRAME", points);
+
+            if (s.next == null) {
+                finish(s);
+                return;
+            }
+            long gap = Math.min(MAX_GAP_MS, (long) ((s.next.time() - frameStart) / s.speed));
+            scheduler.schedule(() -> step(s), Math.max(0, gap), TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            log.warn("Replay {} failed: {}", s.id, e.getMessage());
+            finish(s);
+        }
+    }
+
+    private void finish(Session s) {
+        sessions.remove(s.viewer, s);
+        closeQuietly(s.source);
+        if (!s.canceled) send(s, "END", null);
+    }
+
+    private static void closeQuietly(Source source) {
+        try {
+            source.close();
+        } catch (Exception e) {
+            log.debug("Failed to close replay source: {}", e.getMessage());
+        }
+    }
+
+    private void send(Session s, String type, List<RespStompReplayDto.Point> points) {
+        broker.convertAndSendToUser(s.viewer, s.destination, RespStompReplayDto.builder()
+                .type(type)
+                .replayId(s.id)
+                .points(points)
+                .build());
+    }
+}
@@ -3,11 +3,25 @@ package com.dev.trackify_backend.service.stomp;
 import com.dev.trackify_backend.dto.request.stomp.ReqStompWorkingDto;
 import com.dev.trackify_backend.dto.response.stomp.UserStateDto;
 
+import com.dev.trackify_backend.config.ReplicaLagGuard;
+import com.dev.trackify_backend.dto.request.stomp.ReqStompClusterDto;
+import com.dev.trackify_backend.dto.request.stomp.ReqStompJobResumeDto;
+import com.dev.trackify_backend.dto.request.stomp.ReqStompNearestDto;
 import com.dev.trackify_backend.dto.request.stomp.ReqStompPingDto;
+import com.dev.trackify_backend.dto.request.stomp.ReqStompSyncDto;
 import com.dev.trackify_backend.dto.request.stomp.ReqStompUserDto;
+import com.dev.trackify_backend.dto.response.rest.RespRestClusterDto;
+import com.dev.trackify_backend.dto.response.rest.RespRestNearestDto;
+import com.dev.trackify_backend.dto.response.rest.RespRestTrailDto;
+import com.dev.trackify_backend.dto.response.stomp.RespStompJobResumeDto;
+import com.dev.trackify_backend.dto.response.stomp.RespStompSyncDto;
 import com.dev.trackify_backend.dto.response.stomp.RespStompUserDto;
 import com.dev.trackify_backend.entity.User;
 import com.dev.trackify_backend.event.UserLeaveEvent;
+import com.dev.trackify_backend.logging.SampledLogger;
+import com.dev.trackify_backend.service.rest.RestPresenceService;
+import com.dev.trackify_backend.status.JobEventRelay;
+import com.dev.trackify_backend.status.PresenceChangeLog;
 import com.dev.trackify_backend.status.PresenceStatus;
 import com.dev.trackify_backend.repository.UserMapper;
 import lombok.RequiredArgsConstructor;
@@ -36,13 +50,33 @@ public class StompService {
     @Autowired
     private UserMapper userMapper;
 
+    // 근접 기사 조회(공간 인덱스), REST와 같은 로직 사용
+    @Autowired
+    private RestPresenceService restPresenceService;
+
+    // 재접속 증분 동기화용 변경 로그
+    @Autowired
+    private PresenceChangeLog presenceChangeLog;
+
+    // 작업 이벤트 재개용 로그
+    @Autowired
+    private JobEventRelay jobEventRelay;
+
+    // 가입 직후 접속은 primary에서 사용자 조회(복제 지연 대응)
+    @Autowired
+    private ReplicaLagGuard replicaLagGuard;
+
+    // GPS 틱 로그: userCode당 5초에 1건, DEBUG일 때만 DTO 포맷팅
+    private final SampledLogger moveLog = new SampledLogger(log, 5_000);
+
     @Transactional(readOnly = true)
     public void connect(ReqStompUserDto reqStompUserDto) {
-        log.info("[CONNECT] {}", reqStompUserDto);
+        log.info("[CONNECT] {}", reqStompUserDto.getUserCode());
 
         // 유효 사용자 검증: 존재하지 않으면 즉시 예외 > 컨트롤러/핸들러에서 404 성격으로 매핑 가능.
         // readOnly 트랜잭션: 조회만 수행하여 불필요한 쓰기 락/flush를 피함.
-        User tempUser = userMapper.findByUserCode(reqStompUserDto.getUserCode())
+        String userCode = reqStompUserDto.getUserCode();
+        User tempUser = replicaLagGuard.read(ReplicaLagGuard.userKey(userCode), () -> userMapper.findByUserCode(userCode))
                 .orElseThrow(() -> new NoSuchElementException("Error: NoSuchElementException"));
 
         // PresenceService에 접속/위치 위임: 상태 엔진이 lastMsgAt, status(ONLINE) 등을 관리/브로드캐스트.
@@ -53,18 +87,21 @@ public class StompService {
                 reqStompUserDto.getLng());
     }
 
-    @Transactional(readOnly = true)
     public void update(ReqStompUserDto reqStompUserDto) {
-        log.info("[MOVE] {}", reqStompUserDto);
-        // 유효 사용자 검증: 잘못된 userCode로 맵/상태가 오염되는 것을 방지.
-        userMapper.findByUserCode(reqStompUserDto.getUserCode())
-                .orElseThrow(() -> new NoSuchElementException("Error: NoSuchElementException"));
-
-        presenceStatus.updateLocation(
+        moveLog.debug(reqStompUserDto.getUserCode(), "[MOVE] {}", () -> reqStompUserDto);
+        // 유효 사용자 검증: connect에서 DB로 검증된 사용자만 Presence가 있음 > Presence가 없으면 무시(틱마다 DB 조회 없음)
+        // trackify.presence.async=true면 Redis 응답을 기다리지 않고 반환
+        presenceStatus.updateLocationAsync(
                 reqStompUserDto.getUserCode(),
                 reqStompUserDto.getLat(),
                 reqStompUserDto.getLng()
-        );
+        ).whenComplete((p, e) -> {
+            if (e != null) {
+                log.warn("[MOVE] update failed: {}", reqStompUserDto.getUserCode(), e);
+            } else if (p == null) {
+                log.debug("[MOVE] ignored, no presence: {}", reqStompUserDto.getUserCode());
+            }
+        });
     }
 
     public void working(ReqStompWorkingDto reqStompWorkingDto) {
@@ -92,6 +129,63 @@ public class StompService {
                 .toList();
     }
 
+    // 증분 동기화 > 링이 덮어써졌거나 epoch가 다르면 전체 스냅샷
+    // - 전체 스냅샷은 버전을 먼저 읽고 만듦 > 그 사이 변경은 다음 동기화에서 다시 받음(멱등)
+    @Transactional(readOnly = true)
+    public RespStompSyncDto sync(ReqStompSyncDto reqStompSyncDto) {
+        String userCode = reqStompSyncDto.getUserCode();
+        RespStompSyncDto delta = presenceChangeLog.since(userCode, reqStompSyncDto.getEpoch(), reqStompSyncDto.getVersion());
+        if (delta != null) return delta;
+
+        long version = presenceChangeLog.version();
+        return RespStompSyncDto.builder()
+                .epoch(presenceChangeLog.epoch())
+                .version(version)
+                .full(true)
+                .presences(snapshot(userCode))
+                .leaves(List.of())
+                .build();
+    }
+
+    public List<RespRestNearestDto> nearest(ReqStompNearestDto reqStompNearestDto) {
+        int k = reqStompNearestDto.getK() > 0 ? reqStompNearestDto.getK() : 10;
+        return restPresenceService.getNearest(
+                reqStompNearestDto.getLat(),
+                reqStompNearestDto.getLng(),
+                k,
+                reqStompNearestDto.isWorking());
+    }
+
+    // 놓친 작업 이벤트(본인 작업 또는 cargoId 화물지)
+    public RespStompJobResumeDto resumeJobs(String userCode, ReqStompJobResumeDto reqStompJobResumeDto) {
+        return jobEventRelay.resume(
+                userCode,
+                reqStompJobResumeDto.getCargoId(),
+                reqStompJobResumeDto.getEpoch(),
+                reqStompJobResumeDto.getSeq());
+    }
+
+    // 최근 궤적
+    public RespRestTrailDto trail(String userCode) {
+        return restPresenceService.getTrail(userCode);
+    }
+
+    // 지도 뷰포트 클러스터/마커
+    // - 클러스터 줌이면 이후 변경은 /user/queue/clusters/delta로 수신(기사별 이벤트 대신)
+    public List<RespRestClusterDto> clusters(String userCode, ReqStompClusterDto reqStompClusterDto) {
+        return restPresenceService.watchClusters(
+                userCode,
+                reqStompClusterDto.getZoom(),
+                reqStompClusterDto.getSouth(),
+                reqStompClusterDto.getWest(),
+                reqStompClusterDto.getNorth(),
+                reqStompClusterDto.getEast());
+    }
+
+    public void stopClusters(String userCode) {
+        restPresenceService.unwatchClusters(userCode);
+    }
+
     /** 떠남 이벤트 처리: 마지막 좌표 DB 저장 */
     @EventListener
     @Transactional
@@ -0,0 +1,217 @@
+package com.dev.trackify_backend.status;
+
+import com.dev.trackify_backend.entity.Cargo;
+import com.dev.trackify_backend.entity.Job;
+import com.dev.trackify_backend.entity.Product;
+import com.dev.trackify_backend.event.JobEvent;
+import com.dev.trackify_backend.repository.CargoMapper;
+import com.dev.trackify_backend.repository.JobMapper;
+import com.dev.trackify_backend.repository.ProductMapper;
+import com.dev.trackify_backend.repository.UserMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/** 역할
+ * 배차 후보 계산용 메모리 상태(요청마다 MySQL 조회 없이 사용)
+ * - 화물지(cargo) 좌표, 상품(product) 부피 카탈로그 캐시
+ *   기동 시 로드 + catalog-refresh-ms마다 재로드(맵을 통째로 교체 > 삭제된 화물지/상품도 빠짐)
+ *   미스 시 재로드는 catalog-miss-reload-ms에 최대 1회, 다른 스레드가 재로드 중이면 기다리지 않고 미스로 처리
+ *   > 없는 id가 반복 조회돼도(배차/위치 틱) DB를 반복 조회하지 않음
+ * - 기사별 차량 적재 용량(model volume): 처음 조회할 때 로드 후 캐시, 카탈로그 주기 재로드 때 비움
+ *   > 차량/모델 변경이 catalog-refresh-ms 안에 배차에 반영됨
+ * - 진행 중 작업(status=1)과 기사별 적재량(상품 부피 x 수량): 기동 시 로드, 이후 JobEvent로 증분 갱신
+ * */
+@Slf4j
+@Component
+public class CapacityStatus {
+
+    @Autowired
+    private JobMapper jobMapper;
+
+    @Autowired
+    private UserMapper userMapper;
+
+    @Autowired
+    private CargoMapper cargoMapper;
+
+    @Autowired
+    private ProductMapper productMapper;
+
+    // 진행 중 작업 1건
+    public record RunningJob(long jobId, String userCode, long cargoId, long productId, int productCount, double load) {}
+
+    @Value("${trackify.capacity.catalog-miss-reload-ms:10000}")
+    private long missReloadMs;
+
+    // 재로드 시 새 맵으로 교체(읽기 전용)
+    private volatile Map<Long, Cargo> cargos = Map.of();
+    private volatile Map<Long, Product> products = Map.of();
+    private final ReentrantLock catalogLock = new ReentrantLock();
+    private volatile long catalogLoadedAt;
+    private final Map<String, Double> modelVolumes = new ConcurrentHashMap<>();
+
+    private final Map<Long, RunningJob> runningJobs = new ConcurrentHashMap<>();
+    private final Map<String, Double> loads = new ConcurrentHashMap<>();
+    private final Map<String, Long> runningJobByUser = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        try {
+            reloadCatalog();
+            for (Job job : jobMapper.findRunningJobs()) {
+                if (job.getUser() == null || job.getUser().getUserCode() == null) continue;
+                putRunning(job.getId(), job.getUser().getUserCode(), job.getCargoId(), job.getProductId(), job.getProductCount());
+            }
+            log.info("Capacity state loaded: cargos={}, products={}, runningJobs={}", cargos.size(), products.size(), runningJobs.size());
+        } catch (Exception e) {
+            log.warn("Failed to load capacity state: {}", e.getMessage());
+        }
+    }
+
+    // 화물지/상품 카탈로그 재로드(주기 + 외부 호출)
+    @Scheduled(fixedDelayString = "${trackify.capacity.catalog-refresh-ms:60000}",
+            initialDelayString = "${trackify.capacity.catalog-refresh-ms:60000}")
+    public void reloadCatalog() {
+        catalogLock.lock();
+        try {
+            loadCatalog();
+            modelVolumes.clear(); // 다음 조회 때 다시 로드
+        } finally {
+            catalogLock.unlock();
+        }
+    }
+
+    private void loadCatalog() {
+        Map<Long, Cargo> nextCargos = new HashMap<>();
+        cargoMapper.cargoList().forEach(c -> nextCargos.put(c.getId(), c));
+        Map<Long, Product> nextProducts = new HashMap<>();
+        productMapper.productList().forEach(p -> nextProducts.put(p.getId(), p));
+
+        cargos = Collections.unmodifiableMap(nextCargos);
+        products = Collections.unmodifiableMap(nextProducts);
+        catalogLoadedAt = System.currentTimeMillis();
+    }
+
+    // 미스 시 재로드: 최근 로드 후 missReloadMs가 지났고, 재로드 중인 스레드가 없을 때만
+    private void reloadOnMiss() {
+        if (System.currentTimeMillis() - catalogLoadedAt < missReloadMs) return;
+        if (!catalogLock.tryLock()) return;
+        try {
+            if (System.currentTimeMillis() - catalogLoadedAt < missReloadMs) return;
+            loadCatalog();
+        } catch (Exception e) {
+            catalogLoadedAt = System.currentTimeMillis(); // 실패도 간격을 둠(DB 장애 시 반복 조회 방지)
+            log.warn("Failed to reload catalog: {}", e.getMessage());
+        } finally {
+            catalogLock.unlock();
+        }
+    }
+
+    public Cargo getCargo(long cargoId) {
+        Cargo cargo = cargos.get(cargoId);
+        if (cargo == null) {
+            reloadOnMiss();
+            cargo = cargos.get(cargoId);
+        }
+        return cargo;
+    }
+
+    public Collection<Cargo> getCargos() {
+        return cargos.values();
+    }
+
+    public Product getProduct(long productId) {
+        Product product = products.get(productId);
+        if (product == null) {
+            reloadOnMiss();
+            product = products.get(productId);
+        }
+        return product;
+    }
+
+    // 상품 부피 x 수량
+    public double volumeOf(long productId, int productCount) {
+        Product product = getProduct(productId);
+        return product != null ? product.getVolume() * productCount : 0.0;
+    }
+
+    // 차량 적재 용량(모델 부피), 모델이 없으면 0
+    public double modelVolume(String userCode) {
+        return modelVolumes.computeIfAbsent(userCode, code -> userMapper.findByUserCodeWithModel(code)
+                .map(u -> u.getModel() != null ? u.getModel().getVolume() : 0.0)
+                .orElse(0.0));
+    }
+
+    // 현재 적재량(진행 중 작업 합계)
+    public double load(String userCode) {
+        return loads.getOrDefault(userCode, 0.0);
+    }
+
+    // 남은 적재 용량
+    public double freeCapacity(String userCode) {
+        return modelVolume(userCode) - load(userCode);
+    }
+
+    public RunningJob getRunningJob(long jobId) {
+        return runningJobs.get(jobId);
+    }
+
+    // 기사의 진행 중 작업(가장 최근)
+    public RunningJob getRunningJobOf(String userCode) {
+        Long jobId = runningJobByUser.get(userCode);
+        return jobId != null ? runningJobs.get(jobId) : null;
+    }
+
+    // 작업 변경 반영(커밋 이후)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobEvent(JobEvent e) {
+        switch (e.type()) {
+            case REGISTERED -> {
+                if (e.userCode() != null) putRunning(e.jobId(), e.userCode(), e.cargoId(), e.productId(), e.productCount());
+            }
+            case UPDATED -> {
+                RunningJob prev = runningJobs.get(e.jobId());
+                if (prev != null) putRunning(e.jobId(), prev.userCode(), e.cargoId(), e.productId(), e.productCount());
+            }
+            case COMPLETED, CANCELED -> removeRunning(e.jobId());
+        }
+    }
+
+    private synchronized void putRunning(long jobId, String userCode, long cargoId, long productId, int productCount) {
+        RunningJob next = new RunningJob(jobId, userCode, cargoId, productId, productCount, volumeOf(productId, productCount));
+        RunningJob prev = runningJobs.put(jobId, next);
+        if (prev != null) loads.merge(prev.userCode(), -prev.load(), Double::sum);
+        loads.merge(userCode, next.load(), Double::sum);
+        runningJobByUser.merge(userCode, jobId, Math::max);
+    }
+
+    private synchronized void removeRunning(long jobId) {
+        RunningJob prev = runningJobs.remove(jobId);
+        if (prev == null) return;
+
+        loads.computeIfPresent(prev.userCode(), (k, v) -> {
+            double left = v - prev.load();
+            return left <= 1e-9 ? null : left;
+        });
+        // 같은 기사의 다른 진행 중 작업이 남아 있으면 그 작업(가장 최근)을 가리킴
+        if (runningJobByUser.remove(prev.userCode(), jobId)) {
+            runningJobs.values().stream()
+                    .filter(r -> r.userCode().equals(prev.userCode()))
+                    .mapToLong(RunningJob::jobId)
+                    .max()
+                    .ifPresent(other -> runningJobByUser.put(prev.userCode(), other));
+        }
+    }
+}
@@ -0,0 +1,266 @@
+package com.dev.trackify_backend.status;
+
+import com.dev.trackify_backend.dto.response.rest.RespRestClusterDto;
+import com.dev.trackify_backend.dto.response.stomp.RespStompClusterDeltaDto;
+import com.dev.trackify_backend.util.GeoUtil;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/** 역할
+ * 축소된 지도(zoom out)용 Presence 격자 클러스터를 줌 레벨별로 증분 유지
+ * - 줌 z의 클러스터 셀 = 줌 z + GRID_SHIFT 타일(256px 타일 하나를 8x8, 약 32px 셀로 분할)
+ * - 위치 틱마다 각 줌 레벨의 셀을 갱신: 같은 셀이면 합계만 보정, 셀이 바뀌면 이전 셀에서 빼고 새 셀에 더함
+ * - 조회는 뷰포트 안의 셀만 읽음 > 응답 크기가 전체 기사 수와 무관하게 화면 셀 수로 제한
+ * - 클러스터 줌으로 구독(watch)한 사용자는 기사별 이벤트 대신 주기적으로 바뀐 셀만(델타) 받음
+ *   > 줌 아웃 화면의 수신량이 기사 수가 아니라 화면 셀 수와 변경 빈도로 제한
+ * */
+@Slf4j
+@Component
+public class ClusterStatus implements PresenceListener {
+    public static final int MAX_CLUSTER_ZOOM = 12;
+    public static final String DELTA_DESTINATION = "/queue/clusters/delta";
+    private static final int GRID_SHIFT = 3;
+
+    // 셀 1개의 집계(count, 좌표 합, 작업 중 수) > 중심점 = 합 / count
+    public static final class Cluster {
+        private int count;
+        private int working;
+        private double sumLat;
+        private double sumLng;
+
+        public synchronized Snapshot snapshot(long key) {
+            return new Snapshot(cellId(key), count, working, count > 0 ? sumLat / count : 0.0, count > 0 ? sumLng / count : 0.0);
+        }
+    }
+
+    public record Snapshot(String cellId, int count, int working, double lat, double lng) {}
+
+    // 클러스터 구독자: 뷰포트와 마지막으로 보낸 셀 상태(델타 기준)
+    private record Viewport(int zoom, double south, double west, double north, double east) {}
+
+    private static final class Viewer {
+        private Viewport viewport;
+        private Map<Long, Snapshot> sent;
+    }
+
+    // 기사별 마지막 반영 상태(셀 키는 줌 레벨별)
+    private record Placed(double lat, double lng, boolean working, long[] keys) {}
+
+    @Autowired
+    private PresenceStore store;
+
+    @Autowired
+    private PresenceBroadcaster broadcaster;
+
+    @SuppressWarnings("unchecked")
+    private final Map<Long, Cluster>[] grids = new Map[MAX_CLUSTER_ZOOM + 1];
+    private final Map<String, Placed> placed = new ConcurrentHashMap<>();
+    private final Map<String, Viewer> viewers = new ConcurrentHashMap<>();
+    // 마지막 델타 전송 이후 셀 변경 여부 > 변경이 없으면 구독자 순회 생략
+    private final AtomicBoolean changed = new AtomicBoolean();
+
+    public ClusterStatus() {
+        for (int z = 0; z <= MAX_CLUSTER_ZOOM; z++) {
+            grids[z] = new ConcurrentHashMap<>();
+        }
+    }
+
+    // 기동 시 저장소에 남아 있는 Presence로 초기화
+    @PostConstruct
+    public void init() {
+        try {
+            store.findAll().forEach(p -> onUpdate(p, false));
+        } catch (Exception e) {
+            log.warn("Failed to warm up presence clusters: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void onUpdate(PresenceStatus.Presence p, boolean broadcast) {
+        placed.compute(p.getUserCode(), (k, prev) -> {
+            long[] keys = new long[MAX_CLUSTER_ZOOM + 1];
+            for (int z = 0; z <= MAX_CLUSTER_ZOOM; z++) {
+                keys[z] = cellKey(p.getLat(), p.getLng(), z);
+                if (prev != null && prev.keys()[z] == keys[z]) {
+                    apply(z, keys[z], 0, prev, p);
+                } else {
+                    if (prev != null) apply(z, prev.keys()[z], -1, prev, null);
+                    apply(z, keys[z], 1, null, p);
+                }
+            }
+            return new Placed(p.getLat(), p.getLng(), p.isWorking(), keys);
+        });
+        changed.set(true);
+    }
+
+    @Override
+    public void onLeave(String userCode, PresenceStatus.Presence removed, String reason) {
+        placed.computeIfPresent(userCode, (k, prev) -> {
+            for (int z = 0; z <= MAX_CLUSTER_ZOOM; z++) {
+                apply(z, prev.keys()[z], -1, prev, null);
+            }
+            return null;
+        });
+        changed.set(true);
+    }
+
+    // 뷰포트(남서~북동) 안의 클러스터, 빈 셀은 제외
+    public List<Snapshot> clusters(int zoom, double south, double west, double north, double east) {
+        Map<Long, Snapshot> out = new LinkedHashMap<>();
+        collect(out, zoom, south, west, north, east);
+        return new ArrayList<>(out.values());
+    }
+
+    // 클러스터 구독 시작(또는 뷰포트 변경): 현재 셀을 응답하고 이후 델타의 기준으로 저장
+    // - 날짜변경선을 걸친 뷰포트(west > east)는 두 구간으로 나눠 수집
+    // - 구독 중에는 기사별 이벤트를 받지 않음(PresenceBroadcaster mute)
+    public List<Snapshot> watch(String userCode, int zoom, double south, double west, double north, double east) {
+        Viewport v = new Viewport(Math.max(0, Math.min(MAX_CLUSTER_ZOOM, zoom)), south, west, north, east);
+        Viewer viewer = viewers.computeIfAbsent(userCode, k -> new Viewer());
+        List<Snapshot> out;
+        synchronized (viewer) {
+            viewer.viewport = v;
+            viewer.sent = cells(v);
+            out = new ArrayList<>(viewer.sent.values());
+        }
+        broadcaster.mute(userCode);
+        return out;
+    }
+
+    // 클러스터 구독 해제(마커 줌으로 확대, 명시적 중단, 연결 종료) > 기사별 이벤트 재개
+    public void unwatch(String userCode) {
+        viewers.remove(userCode);
+        broadcaster.unmute(userCode);
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent e) {
+        if (e.getUser() != null) unwatch(e.getUser().getName());
+    }
+
+    // 구독자별 델타 전송(/user/queue/clusters/delta)
+    // - 마지막 전송 이후 셀 변경이 없으면 생략
+    // - 바뀐 셀은 upserts, 비워진 셀은 removed
+    @Scheduled(fixedDelayString = "${trackify.cluster.push-interval-ms:1000}")
+    public void pushDeltas() {
+        if (viewers.isEmpty() || !changed.getAndSet(false)) return;
+
+        viewers.forEach((userCode, viewer) -> {
+            try {
+                synchronized (viewer) {
+                    if (viewer.viewport == null) return;
+                    Map<Long, Snapshot> now = cells(viewer.viewport);
+
+                    List<RespRestClusterDto> upserts = new ArrayList<>();
+                    now.forEach((key, snap) -> {
+                        if (!snap.equals(viewer.sent.get(key))) upserts.add(RespRestClusterDto.from(snap));
+                    });
+                    List<String> removed = new ArrayList<>();
+                    viewer.sent.forEach((key, snap) -> {
+                        if (!now.containsKey(key)) removed.add(snap.cellId());
+                    });
+                    viewer.sent = now;
+                    if (upserts.isEmpty() && removed.isEmpty()) return;
+
+                    RespStompClusterDeltaDto dto = RespStompClusterDeltaDto.builder()
+                            .zoom(viewer.viewport.zoom())
+                            .upserts(upserts)
+                            .removed(removed)
+                            .build();
+                    broadcaster.sendToUser(userCode, DELTA_DESTINATION, broadcaster.serialize(dto));
+                }
+            } catch (Exception e) {
+                log.warn("Failed to push cluster delta to {}: {}", userCode, e.getMessage());
+            }
+        });
+    }
+
+    private Map<Long, Snapshot> cells(Viewport v) {
+        Map<Long, Snapshot> out = new LinkedHashMap<>();
+        if (v.west() > v.east()) {
+            collect(out, v.zoom(), v.south(), v.west(), v.north(), 180);
+            collect(out, v.zoom(), v.south(), -180, v.north(), v.east());
+        } else {
+            collect(out, v.zoom(), v.south(), v.west(), v.north(), v.east());
+        }
+        return out;
+    }
+
+    private void collect(Map<Long, Snapshot> out, int zoom, double south, double west, double north, double east) {
+        int z = Math.max(0, Math.min(MAX_CLUSTER_ZOOM, zoom));
+        int gz = z + GRID_SHIFT;
+        Map<Long, Cluster> grid = grids[z];
+
+        int x0 = GeoUtil.tileX(west, gz), x1 = GeoUtil.tileX(east, gz);
+        int y0 = GeoUtil.tileY(north, gz), y1 = GeoUtil.tileY(south, gz);
+        long cellsInView = (long) (x1 - x0 + 1) * (y1 - y0 + 1);
+
+        if (cellsInView > grid.size()) {
+            // 뷰포트가 넓으면 채워진 셀만 순회
+            grid.forEach((key, c) -> {
+                int x = (int) (key >>> 32), y = (int) (long) key;
+                if (x >= x0 && x <= x1 && y >= y0 && y <= y1) addIfNotEmpty(out, key, c);
+            });
+        } else {
+            for (int x = x0; x <= x1; x++) {
+                for (int y = y0; y <= y1; y++) {
+                    long key = key(x, y);
+                    Cluster c = grid.get(key);
+                    if (c != null) addIfNotEmpty(out, key, c);
+                }
+            }
+        }
+    }
+
+    private static void addIfNotEmpty(Map<Long, Snapshot> out, long key, Cluster c) {
+        Snapshot s = c.snapshot(key);
+        if (s.count() > 0) out.put(key, s);
+    }
+
+    // 셀 집계 변경(맵 compute 안에서 수행 > 빈 셀 제거와 동시 추가가 경합하지 않음)
+    // - delta 0: 같은 셀 안에서 이동(이전 값 빼고 새 값 더함)
+    private void apply(int z, long key, int delta, Placed prev, PresenceStatus.Presence next) {
+        grids[z].compute(key, (k, c) -> {
+            if (c == null) c = new Cluster();
+            synchronized (c) {
+                if (prev != null && delta <= 0) {
+                    c.sumLat -= prev.lat();
+                    c.sumLng -= prev.lng();
+                    if (prev.working()) c.working--;
+                }
+                if (next != null && delta >= 0) {
+                    c.sumLat += next.getLat();
+                    c.sumLng += next.getLng();
+                    if (next.isWorking()) c.working++;
+                }
+                c.count += delta;
+                return c.count <= 0 ? null : c;
+            }
+        });
+    }
+
+    private static long cellKey(double lat, double lng, int zoom) {
+        int gz = zoom + GRID_SHIFT;
+        return key(GeoUtil.tileX(lng, gz), GeoUtil.tileY(lat, gz));
+    }
+
+    private static String cellId(long key) {
+        return (key >>> 32) + "/" + (int) key;
+    }
+
+    private static long key(int x, int y) {
+        return ((long) x << 32) | (y & 0xffffffffL);
+    }
+}
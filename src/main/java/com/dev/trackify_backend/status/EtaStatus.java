@@ -0,0 +1,154 @@
+package com.dev.trackify_backend.status;
+
+import com.dev.trackify_backend.dto.response.stomp.RespStompEtaDto;
+import com.dev.trackify_backend.entity.Cargo;
+import com.dev.trackify_backend.util.GeoUtil;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/** 역할
+ * 진행 중 작업의 도착 예상 시간(ETA)을 위치 틱마다 증분 계산
+ * - 속도: 기사별 최근 이동 속도의 지수 이동 평균(EWMA), 튀는 샘플(GPS 점프)은 제외
+ * - 거리: 현재 위치 > 작업 화물지(CapacityStatus) 직선 거리
+ * - ETA = 거리 / max(속도, 최소 속도)
+ * ETA가 의미 있게 바뀔 때만 전송(min-change-sec 이상이면서 직전 값의 10% 이상 변화, 새 작업/도착은 즉시)
+ * - 기사 본인: /user/queue/eta, 관제: /topic/eta/{jobId}
+ * 진행 중 작업이 없는 기사는 속도만 갱신(전체 작업 주기 스캔 없음)
+ * */
+@Component
+public class EtaStatus implements PresenceListener {
+    private static final double ALPHA = 0.3;
+    private static final long MIN_SAMPLE_MS = 500;
+    private static final double MAX_SPEED_MPS = 70.0;   // 약 250km/h 초과 샘플은 GPS 튐으로 간주
+    private static final double ARRIVED_METERS = 50.0;
+    private static final double MIN_RELATIVE_CHANGE = 0.1;
+
+    @Autowired
+    private CapacityStatus capacityStatus;
+
+    @Autowired
+    private SimpMessagingTemplate broker;
+
+    // ETA 계산 시 속도 하한(정차 중 ETA 폭주 방지)
+    @Value("${trackify.eta.min-speed-mps:2.0}")
+    private double minSpeedMps;
+
+    @Value("${trackify.eta.min-change-sec:30}")
+    private long minChangeSec;
+
+    // 예상치
+    public record Estimate(long jobId, String userCode, long cargoId, double distanceMeters,
+                           long etaSeconds, double speedMps, long updatedAt) {}
+
+    // 기사별 속도 추정 상태 + 마지막 전송 ETA
+    private static final class Track {
+        private double lat;
+        private double lng;
+        private long at;
+        private double speed = Double.NaN;
+        private long jobId = -1;
+        private long lastEtaSec = -1;
+        private volatile Estimate estimate; // 조회 스레드가 락 없이 읽음
+    }
+
+    private final Map<String, Track> tracks = new ConcurrentHashMap<>();
+
+    @Override
+    public void onUpdate(PresenceStatus.Presence p, boolean broadcast) {
+        long now = p.getLastMsgAt() > 0 ? p.getLastMsgAt() : System.currentTimeMillis();
+        CapacityStatus.RunningJob job = capacityStatus.getRunningJobOf(p.getUserCode());
+        // 화물지는 compute 밖에서 조회(미스 시 카탈로그 재로드가 맵 잠금을 잡은 채 실행되지 않도록)
+        Cargo cargo = job != null ? capacityStatus.getCargo(job.cargoId()) : null;
+
+        Estimate[] push = new Estimate[1];
+        tracks.compute(p.getUserCode(), (k, t) -> {
+            if (t == null) {
+                t = new Track();
+                t.lat = p.getLat();
+                t.lng = p.getLng();
+                t.at = now;
+            } else if (now - t.at >= MIN_SAMPLE_MS) {
+                double v = GeoUtil.haversineMeters(t.lat, t.lng, p.getLat(), p.getLng()) / ((now - t.at) / 1000.0);
+                if (v <= MAX_SPEED_MPS) {
+                    t.speed = Double.isNaN(t.speed) ? v : ALPHA * v + (1 - ALPHA) * t.speed;
+                }
+                t.lat = p.getLat();
+                t.lng = p.getLng();
+                t.at = now;
+            }
+
+            if (job == null) {
+                t.jobId = -1;
+                t.estimate = null;
+                return t;
+            }
+            Estimate e = estimate(job, cargo, t, p.getLat(), p.getLng(), now);
+            if (e == null) return t;
+            t.estimate = e;
+
+            if (t.jobId != job.jobId() || isMaterial(t.lastEtaSec, e.etaSeconds())) {
+                t.jobId = job.jobId();
+                t.lastEtaSec = e.etaSeconds();
+                push[0] = e;
+            }
+            return t;
+        });
+
+        if (push[0] != null) send(push[0]);
+    }
+
+    @Override
+    public void onLeave(String userCode, PresenceStatus.Presence removed, String reason) {
+        tracks.remove(userCode);
+    }
+
+    // 작업의 최근 예상치(기사 위치 틱이 아직 없으면 null)
+    public Estimate getEstimate(long jobId) {
+        CapacityStatus.RunningJob job = capacityStatus.getRunningJob(jobId);
+        if (job == null || job.userCode() == null) return null;
+        Track t = tracks.get(job.userCode());
+        if (t == null) return null;
+        Estimate e = t.estimate;
+        return e != null && e.jobId() == jobId ? e : null;
+    }
+
+    private Estimate estimate(CapacityStatus.RunningJob job, Cargo cargo, Track t, double lat, double lng, long now) {
+        if (cargo == null) return null;
+
+        double distance = GeoUtil.haversineMeters(lat, lng, cargo.getLat(), cargo.getLng());
+        double speed = Double.isNaN(t.speed) ? 0.0 : t.speed;
+        long eta = distance <= ARRIVED_METERS ? 0 : Math.round(distance / Math.max(speed, minSpeedMps));
+        return new Estimate(job.jobId(), job.userCode(), job.cargoId(), distance, eta, speed, now);
+    }
+
+    // 마지막 전송값 대비 절대/상대 변화가 모두 임계 이상일 때만 전송(도착 0은 항상)
+    private boolean isMaterial(long lastEtaSec, long etaSec) {
+        if (lastEtaSec < 0) return true;
+        if (etaSec == lastEtaSec) return false;
+        if (etaSec == 0) return true;
+        long diff = Math.abs(etaSec - lastEtaSec);
+        return diff >= minChangeSec && diff >= lastEtaSec * MIN_RELATIVE_CHANGE;
+    }
+
+    private void send(Estimate e) {
+        RespStompEtaDto dto = RespStompEtaDto.builder()
+                .jobId(e.jobId())
+                .userCode(e.userCode())
+                .cargoId(e.cargoId())
+                .distance(e.distanceMeters())
+                .eta(e.etaSeconds())
+                .speed(e.speedMps())
+                .respTime(Instant.ofEpochMilli(e.updatedAt()))
+                .build();
+        // Principal 이름은 소문자로 정규화됨(WebSocketConfig)
+        broker.convertAndSendToUser(e.userCode().toLowerCase(Locale.ROOT), "/queue/eta", dto);
+        broker.convertAndSend("/topic/eta/" + e.jobId(), dto);
+    }
+}
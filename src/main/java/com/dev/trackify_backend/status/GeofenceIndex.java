@@ -0,0 +1,82 @@
+package com.dev.trackify_backend.status;
+
+import com.dev.trackify_backend.util.GeoUtil;
+
+import java.util.*;
+
+/** 역할
+ * 화물지(cargo) 지오펜스 원(중심 + 반경)에 대한 불변 격자 인덱스
+ * - 생성 시 각 원을 겹치는 모든 셀(약 550m)에 등록 > 조회는 좌표가 속한 셀 1개만 확인(상수 시간)
+ * - 불변 객체라 조회 스레드는 락 없이 사용, 변경 시 새 인덱스로 통째로 교체
+ * */
+public final class GeofenceIndex {
+    private static final double CELL_DEG = 0.005;
+    private static final long COLS = (long) Math.ceil(360.0 / CELL_DEG) + 1;
+    private static final double METERS_PER_DEG = 111_320.0;
+    private static final Site[] EMPTY = new Site[0];
+
+    public record Site(long cargoId, String cargoName, double lat, double lng, double radiusMeters) {}
+
+    private final Map<Long, Site[]> cells;
+    private final Map<Long, Site> sites;
+
+    public GeofenceIndex(Collection<Site> sites) {
+        Map<Long, List<Site>> building = new HashMap<>();
+        Map<Long, Site> byId = new HashMap<>();
+
+        for (Site s : sites) {
+            byId.put(s.cargoId(), s);
+
+            // 원의 외접 사각형(도)
+            double dLat = s.radiusMeters() / METERS_PER_DEG;
+            double dLng = s.radiusMeters() / (METERS_PER_DEG * Math.max(0.01, Math.cos(Math.toRadians(s.lat()))));
+            for (long r = row(s.lat() - dLat); r <= row(s.lat() + dLat); r++) {
+                for (long c = col(s.lng() - dLng); c <= col(s.lng() + dLng); c++) {
+                    building.computeIfAbsent(key(r, c), k -> new ArrayList<>(2)).add(s);
+                }
+            }
+        }
+
+        Map<Long, Site[]> frozen = new HashMap<>(building.size() * 2);
+        building.forEach((k, v) -> frozen.put(k, v.toArray(EMPTY)));
+        this.cells = frozen;
+        this.sites = byId;
+    }
+
+    // 좌표를 포함하는 지오펜스 중 중심이 가장 가까운 것(없으면 null)
+    public Site find(double lat, double lng) {
+        Site[] candidates = cells.get(key(row(lat), col(lng)));
+        if (candidates == null) return null;
+
+        Site best = null;
+        double bestDistance = Double.MAX_VALUE;
+        for (Site s : candidates) {
+            double d = GeoUtil.haversineMeters(lat, lng, s.lat(), s.lng());
+            if (d <= s.radiusMeters() && d < bestDistance) {
+                best = s;
+                bestDistance = d;
+            }
+        }
+        return best;
+    }
+
+    public Site get(long cargoId) {
+        return sites.get(cargoId);
+    }
+
+    public int size() {
+        return sites.size();
+    }
+
+    private static long row(double lat) {
+        return (long) Math.floor((lat + 90.0) / CELL_DEG);
+    }
+
+    private static long col(double lng) {
+        return (long) Math.floor((lng + 180.0) / CELL_DEG);
+    }
+
+    private static long key(long row, long col) {
+        return row * COLS + col;
+    }
+}
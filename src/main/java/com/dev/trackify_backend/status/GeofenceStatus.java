@@ -0,0 +1,172 @@
+package com.dev.trackify_backend.status;
+
+import com.dev.trackify_backend.dto.response.rest.RespRestDwellDto;
+import com.dev.trackify_backend.dto.response.stomp.RespStompGeofenceDto;
+import com.dev.trackify_backend.entity.Cargo;
+import com.dev.trackify_backend.util.GeoUtil;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/** 역할
+ * 기사 위치 틱마다 화물지 지오펜스 진입(ARRIVE)/이탈(DEPART) 판정
+ * - 진입: 좌표가 화물지 반경 안에 들어오면 ARRIVE
+ * - 이탈: 반경 x DEPART_HYSTERESIS 밖으로 나가야 DEPART(경계에서 GPS 흔들림으로 인한 반복 알림 방지)
+ * - 알림: 기사 본인(/user/queue/geofence) + 관제(/topic/geofence)
+ * - 체류 시간: 진행 중 작업(jobId) 기준으로 기록, 최근 작업만 메모리에 보관
+ * 반경: trackify.geofence.default-radius-m, 화물지별 trackify.geofence.radius.{cargoId}
+ * */
+@Slf4j
+@Component
+public class GeofenceStatus implements PresenceListener {
+    private static final double DEPART_HYSTERESIS = 1.2;
+    private static final int MAX_JOBS = 10_000;
+
+    @Autowired
+    private CapacityStatus capacityStatus;
+
+    @Autowired
+    private SimpMessagingTemplate broker;
+
+    @Autowired
+    private Environment env;
+
+    @Value("${trackify.geofence.default-radius-m:150}")
+    private double defaultRadiusMeters;
+
+    // 지오펜스 인덱스(불변, 통째로 교체)
+    private volatile GeofenceIndex index = new GeofenceIndex(List.of());
+
+    // 기사별 현재 머무는 화물지
+    private record Inside(long cargoId, long enteredAt, Long jobId) {}
+    private final Map<String, Inside> inside = new ConcurrentHashMap<>();
+
+    // 작업별 체류 기록(오래된 작업부터 제거)
+    private final Map<Long, List<RespRestDwellDto>> dwellsByJob = Collections.synchronizedMap(
+            new LinkedHashMap<Long, List<RespRestDwellDto>>(256, 0.75f, false) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, List<RespRestDwellDto>> eldest) {
+                    return size() > MAX_JOBS;
+                }
+            });
+
+    // 기동 시에는 CapacityStatus가 막 로드한 카탈로그 사용
+    @PostConstruct
+    public void init() {
+        build();
+    }
+
+    // 화물지 목록/반경 변경 반영(5분 주기)
+    // - 카탈로그는 미스가 있어야 재로드되므로 먼저 DB에서 다시 읽음 > 새로 추가된 화물지도 지오펜스 생성
+    @Scheduled(fixedDelay = 300_000, initialDelay = 300_000)
+    public void rebuild() {
+        try {
+            capacityStatus.reloadCatalog();
+        } catch (Exception e) {
+            log.warn("Failed to reload catalog for geofences, using cached catalog: {}", e.getMessage());
+        }
+        build();
+    }
+
+    private void build() {
+        List<GeofenceIndex.Site> sites = new ArrayList<>();
+        for (Cargo c : capacityStatus.getCargos()) {
+            double radius = env.getProperty("trackify.geofence.radius." + c.getId(), Double.class, defaultRadiusMeters);
+            sites.add(new GeofenceIndex.Site(c.getId(), c.getCargoName(), c.getLat(), c.getLng(), radius));
+        }
+        index = new GeofenceIndex(sites);
+        log.info("Geofence index built: {} sites", sites.size());
+    }
+
+    @Override
+    public void onUpdate(PresenceStatus.Presence p, boolean broadcast) {
+        String userCode = p.getUserCode();
+        GeofenceIndex idx = index;
+        Inside cur = inside.get(userCode);
+
+        if (cur != null) {
+            GeofenceIndex.Site site = idx.get(cur.cargoId());
+            if (site != null && GeoUtil.haversineMeters(p.getLat(), p.getLng(), site.lat(), site.lng())
+                    <= site.radiusMeters() * DEPART_HYSTERESIS) {
+                return; // 아직 머무는 중
+            }
+            inside.remove(userCode);
+            depart(userCode, cur, site);
+        }
+
+        GeofenceIndex.Site site = idx.find(p.getLat(), p.getLng());
+        if (site != null) {
+            CapacityStatus.RunningJob job = capacityStatus.getRunningJobOf(userCode);
+            Inside next = new Inside(site.cargoId(), System.currentTimeMillis(), job != null ? job.jobId() : null);
+            inside.put(userCode, next);
+            arrive(userCode, next, site);
+        }
+    }
+
+    @Override
+    public void onLeave(String userCode, PresenceStatus.Presence removed, String reason) {
+        inside.remove(userCode);
+    }
+
+    public List<RespRestDwellDto> getDwells(long jobId) {
+        List<RespRestDwellDto> dwells = dwellsByJob.get(jobId);
+        if (dwells == null) return List.of();
+        synchronized (dwells) {
+            return List.copyOf(dwells);
+        }
+    }
+
+    private void arrive(String userCode, Inside in, GeofenceIndex.Site site) {
+        send(userCode, RespStompGeofenceDto.builder()
+                .type("ARRIVE")
+                .userCode(userCode)
+                .cargoId(site.cargoId())
+                .cargoName(site.cargoName())
+                .jobId(in.jobId())
+                .respTime(Instant.now())
+                .build());
+    }
+
+    private void depart(String userCode, Inside in, GeofenceIndex.Site site) {
+        long now = System.currentTimeMillis();
+        long dwellMs = now - in.enteredAt();
+        String cargoName = site != null ? site.cargoName() : null;
+
+        if (in.jobId() != null) {
+            dwellsByJob.computeIfAbsent(in.jobId(), k -> Collections.synchronizedList(new ArrayList<>()))
+                    .add(RespRestDwellDto.builder()
+                            .cargoId(in.cargoId())
+                            .cargoName(cargoName)
+                            .userCode(userCode)
+                            .arrivedAt(Instant.ofEpochMilli(in.enteredAt()))
+                            .departedAt(Instant.ofEpochMilli(now))
+                            .dwellMs(dwellMs)
+                            .build());
+        }
+
+        send(userCode, RespStompGeofenceDto.builder()
+                .type("DEPART")
+                .userCode(userCode)
+                .cargoId(in.cargoId())
+                .cargoName(cargoName)
+                .jobId(in.jobId())
+                .dwellMs(dwellMs)
+                .respTime(Instant.ofEpochMilli(now))
+                .build());
+    }
+
+    private void send(String userCode, RespStompGeofenceDto payload) {
+        // Principal 이름은 소문자로 정규화됨(WebSocketConfig)
+        broker.convertAndSendToUser(userCode.toLowerCase(Locale.ROOT), "/queue/geofence", payload);
+        broker.convertAndSend("/topic/geofence", payload);
+    }
+}
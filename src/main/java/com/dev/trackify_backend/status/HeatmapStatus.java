@@ -0,0 +1,218 @@
+package com.dev.trackify_backend.status;
+
+import com.dev.trackify_backend.entity.Cargo;
+import com.dev.trackify_backend.event.JobEvent;
+import com.dev.trackify_backend.repository.JobMapper;
+import com.dev.trackify_backend.util.GeoUtil;
+import com.dev.trackify_backend.util.PathPointParser;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/** 역할
+ * 밀도 지도(heatmap)용 타일 집계를 증분으로 유지(줌 0 ~ MAX_ZOOM 피라미드)
+ * - 타일 1개 = BINS x BINS 카운트(256px 타일 기준 16px 칸), 값이 생긴 타일만 저장(희소)
+ * - 점 1개가 들어오면 줌 레벨마다 해당 칸 1개씩 증가 > 조회는 타일 1개 읽기(재집계/경로 재스캔 없음)
+ * 레이어
+ * - presence: 기사 체류 밀도, 기사당 sample-interval마다 현재 위치 1회 집계(위치 틱 빈도와 무관)
+ * - route: 완료된 작업 경로의 지점, 완료 시점에 1회만 스트리밍 파싱해서 반영
+ * - delivery: 완료된 작업의 배송지(cargo) 위치
+ * 주기적으로 파일(gzip)에 스냅샷 저장, 기동 시 복원
+ * */
+@Slf4j
+@Component
+public class HeatmapStatus implements PresenceListener {
+    public static final int MAX_ZOOM = 15;
+    public static final int BINS = 16;
+    private static final int FILE_MAGIC = 0x48544d31; // "HTM1"
+
+    public enum Layer { PRESENCE, ROUTE, DELIVERY }
+
+    @Autowired
+    private JobMapper jobMapper;
+
+    @Autowired
+    private CapacityStatus capacityStatus;
+
+    @Value("${trackify.heatmap.file:./data/heatmap.bin}")
+    private String file;
+
+    @Value("${trackify.heatmap.sample-interval-ms:10000}")
+    private long sampleIntervalMs;
+
+    // 타일 수 상한(1타일 약 1KB), 넘으면 새 타일은 만들지 않음
+    @Value("${trackify.heatmap.max-tiles:100000}")
+    private int maxTiles;
+
+    private final Map<Long, AtomicIntegerArray> tiles = new ConcurrentHashMap<>();
+    private final Map<String, Long> lastSampleAt = new ConcurrentHashMap<>();
+
+    // 완료 경로 파싱은 요청 스레드 밖에서
+    private final ExecutorService routeExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "heatmap-route");
+        t.setDaemon(true);
+        return t;
+    });
+
+    @PostConstruct
+    public void init() {
+        Path path = Paths.get(file);
+        if (!Files.exists(path)) return;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new GZIPInputStream(Files.newInputStream(path))))) {
+            if (in.readInt() != FILE_MAGIC) {
+                log.warn("Ignoring heatmap file with unknown format: {}", path);
+                return;
+            }
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                long key = in.readLong();
+                int nonZero = in.readUnsignedShort();
+                AtomicIntegerArray bins = new AtomicIntegerArray(BINS * BINS);
+                for (int j = 0; j < nonZero; j++) {
+                    bins.set(in.readUnsignedByte(), in.readInt());
+                }
+                tiles.put(key, bins);
+            }
+        } catch (IOException e) {
+            log.warn("Failed to load heatmap: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        routeExecutor.shutdown();
+        persist();
+    }
+
+    @Override
+    public void onUpdate(PresenceStatus.Presence p, boolean broadcast) {
+        long now = System.currentTimeMillis();
+        Long last = lastSampleAt.get(p.getUserCode());
+        if (last != null && now - last < sampleIntervalMs) return;
+        lastSampleAt.put(p.getUserCode(), now);
+        add(Layer.PRESENCE, p.getLat(), p.getLng());
+    }
+
+    @Override
+    public void onLeave(String userCode, PresenceStatus.Presence removed, String reason) {
+        lastSampleAt.remove(userCode);
+    }
+
+    // 완료된 작업 > 경로/배송지 반영(커밋 후, 별도 스레드)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobEvent(JobEvent e) {
+        if (e.type() != JobEvent.Type.COMPLETED) return;
+        routeExecutor.execute(() -> addCompletedJob(e.jobId(), e.cargoId()));
+    }
+
+    private void addCompletedJob(long jobId, long cargoId) {
+        Cargo cargo = cargoId > 0 ? capacityStatus.getCargo(cargoId) : null;
+        if (cargo != null) add(Layer.DELIVERY, cargo.getLat(), cargo.getLng());
+
+        // paths를 한 번의 스트리밍 조회로 읽으면서 바로 파싱(조회 결과가 열려 있는 동안만 Reader 유효)
+        try {
+            jobMapper.streamPaths(jobId, ctx -> {
+                if (ctx.getResultObject() == null) return;
+                try (PathPointParser parser = new PathPointParser(ctx.getResultObject())) {
+                    double[] point;
+                    while ((point = parser.next()) != null) {
+                        add(Layer.ROUTE, point[0], point[1]);
+                    }
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+        } catch (Exception ex) {
+            log.warn("Failed to add route of job {} to heatmap: {}", jobId, ex.getMessage());
+        }
+    }
+
+    // 점 1개를 모든 줌 레벨에 반영
+    public void add(Layer layer, double lat, double lng) {
+        double mx = GeoUtil.mercatorX(lng, MAX_ZOOM);
+        double my = GeoUtil.mercatorY(lat, MAX_ZOOM);
+        int limit = (1 << MAX_ZOOM) * BINS - 1;
+        int bx = Math.max(0, Math.min(limit, (int) (mx * BINS)));
+        int by = Math.max(0, Math.min(limit, (int) (my * BINS)));
+
+        // 줌 z의 칸 좌표 = 최대 줌 칸 좌표 >> (MAX_ZOOM - z)
+        for (int z = MAX_ZOOM; z >= 0; z--) {
+            int shift = MAX_ZOOM - z;
+            int cx = bx >> shift, cy = by >> shift;
+            long key = key(layer, z, cx / BINS, cy / BINS);
+
+            AtomicIntegerArray bins = tiles.get(key);
+            if (bins == null) {
+                if (tiles.size() >= maxTiles) continue;
+                bins = tiles.computeIfAbsent(key, k -> new AtomicIntegerArray(BINS * BINS));
+            }
+            bins.incrementAndGet((cy % BINS) * BINS + (cx % BINS));
+        }
+    }
+
+    // 타일 카운트(행 우선, BINS x BINS), 없으면 null
+    public int[] tile(Layer layer, int z, int x, int y) {
+        AtomicIntegerArray bins = tiles.get(key(layer, z, x, y));
+        if (bins == null) return null;
+        int[] out = new int[bins.length()];
+        for (int i = 0; i < out.length; i++) out[i] = bins.get(i);
+        return out;
+    }
+
+    // 스냅샷 파일 저장(임시 파일에 쓰고 교체)
+    @Scheduled(fixedDelayString = "${trackify.heatmap.persist-interval-ms:300000}")
+    public synchronized void persist() {
+        Path path = Paths.get(file);
+        try {
+            if (path.getParent() != null) Files.createDirectories(path.getParent());
+            Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(Files.newOutputStream(tmp))))) {
+                Map<Long, AtomicIntegerArray> snapshot = Map.copyOf(tiles);
+                out.writeInt(FILE_MAGIC);
+                out.writeInt(snapshot.size());
+                for (Map.Entry<Long, AtomicIntegerArray> e : snapshot.entrySet()) {
+                    AtomicIntegerArray bins = e.getValue();
+                    int[] values = new int[bins.length()];
+                    int nonZero = 0;
+                    for (int i = 0; i < values.length; i++) {
+                        values[i] = bins.get(i);
+                        if (values[i] != 0) nonZero++;
+                    }
+                    out.writeLong(e.getKey());
+                    out.writeShort(nonZero);
+                    for (int i = 0; i < values.length; i++) {
+                        if (values[i] == 0) continue;
+                        out.writeByte(i);
+                        out.writeInt(values[i]);
+                    }
+                }
+            }
+            Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("Failed to persist heatmap: {}", e.getMessage());
+        }
+    }
+
+    // layer(8) | z(8) | x(24) | y(24)
+    private static long key(Layer layer, int z, int x, int y) {
+        return ((long) layer.ordinal() << 56) | ((long) z << 48) | ((long) x << 24) | y;
+    }
+}
@@ -0,0 +1,94 @@
+package com.dev.trackify_backend.status;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/** 역할
+ * Redis + 노드 로컬 near-cache(trackify.presence.store=hybrid)
+ * - 쓰기: Redis에 먼저 저장(write-through) 후 캐시 갱신 > Redis가 항상 기준
+ * - 단건 조회: 캐시가 ttl 이내면 Redis 왕복 없이 반환, 아니면 Redis 조회 후 캐시
+ *   위치 틱(get > save)은 보통 접속한 노드에서만 일어남 > 대부분 캐시 적중
+ * - 전체 조회(findAll): 다른 노드의 변경도 보여야 하므로 항상 Redis(SCAN), 결과로 캐시도 갱신
+ * - 다른 노드가 같은 사용자를 바꾼 경우 최대 near-cache-ttl-ms 동안 이전 값이 보일 수 있음
+ * */
+@Component
+@ConditionalOnProperty(name = "trackify.presence.store", havingValue = "hybrid")
+public class HybridPresenceStore extends RedisPresenceStore {
+
+    @Value("${trackify.presence.near-cache-ttl-ms:1000}")
+    private long ttlMs;
+
+    private record Cached(PresenceSlot slot, long expiresAt) {}
+
+    private final ConcurrentHashMap<String, Cached> cache = new ConcurrentHashMap<>();
+
+    @Override
+    public PresenceStatus.Presence get(String userCode) {
+        Cached c = cache.get(userCode);
+        if (c != null && c.expiresAt() > System.currentTimeMillis()) {
+            return c.slot().toPresence();
+        }
+        PresenceStatus.Presence p = super.get(userCode);
+        cache(userCode, p);
+        return p;
+    }
+
+    @Override
+    public void save(PresenceStatus.Presence p) {
+        super.save(p);
+        cache(p.getUserCode(), p);
+    }
+
+    @Override
+    public void delete(String userCode) {
+        super.delete(userCode);
+        cache.remove(userCode);
+    }
+
+    @Override
+    public List<PresenceStatus.Presence> findAll() {
+        List<PresenceStatus.Presence> all = super.findAll();
+        for (PresenceStatus.Presence p : all) {
+            cache(p.getUserCode(), p);
+        }
+        return all;
+    }
+
+    @Override
+    public CompletableFuture<PresenceStatus.Presence> getAsync(String userCode) {
+        Cached c = cache.get(userCode);
+        if (c != null && c.expiresAt() > System.currentTimeMillis()) {
+            return CompletableFuture.completedFuture(c.slot().toPresence());
+        }
+        return super.getAsync(userCode).thenApply(p -> {
+            cache(userCode, p);
+            return p;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> saveAsync(PresenceStatus.Presence p) {
+        PresenceSlot slot = PresenceSlot.of(p); // 저장 완료 전에 호출자가 p를 바꿔도 캐시는 저장한 값
+        return super.saveAsync(p).thenRun(() -> cache.put(p.getUserCode(), new Cached(slot, System.currentTimeMillis() + ttlMs)));
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteAsync(String userCode) {
+        cache.remove(userCode);
+        return super.deleteAsync(userCode).thenRun(() -> cache.remove(userCode));
+    }
+
+    // null(없음)은 캐시하지 않음 > 다른 노드에서 접속한 사용자를 바로 조회 가능
+    private void cache(String userCode, PresenceStatus.Presence p) {
+        if (p == null) {
+            cache.remove(userCode);
+            return;
+        }
+        cache.put(userCode, new Cached(PresenceSlot.of(p), System.currentTimeMillis() + ttlMs));
+    }
+}
@@ -0,0 +1,46 @@
+package com.dev.trackify_backend.status;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/** 역할
+ * 프로세스 메모리 Presence 저장소(trackify.presence.store=memory)
+ * - 단일 노드 배포/테스트용: Redis 왕복/직렬화 없음
+ * - ConcurrentHashMap<userCode, PresenceSlot> > 저장/조회마다 복사(Redis 구현과 같은 사본 규칙)
+ * - 재시작하면 비어 있음(접속 시 다시 채워짐)
+ * */
+@Component
+@ConditionalOnProperty(name = "trackify.presence.store", havingValue = "memory")
+public class InMemoryPresenceStore implements PresenceStore {
+
+    private final ConcurrentHashMap<String, PresenceSlot> slots = new ConcurrentHashMap<>();
+
+    @Override
+    public PresenceStatus.Presence get(String userCode) {
+        PresenceSlot slot = slots.get(userCode);
+        return slot != null ? slot.toPresence() : null;
+    }
+
+    @Override
+    public void save(PresenceStatus.Presence p) {
+        slots.put(p.getUserCode(), PresenceSlot.of(p));
+    }
+
+    @Override
+    public void delete(String userCode) {
+        slots.remove(userCode);
+    }
+
+    @Override
+    public List<PresenceStatus.Presence> findAll() {
+        List<PresenceStatus.Presence> out = new ArrayList<>(slots.size());
+        for (PresenceSlot slot : slots.values()) {
+            out.add(slot.toPresence());
+        }
+        return out;
+    }
+}
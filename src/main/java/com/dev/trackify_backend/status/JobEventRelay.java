@@ -0,0 +1,90 @@
+package com.dev.trackify_backend.status;
+
+import com.dev.trackify_backend.dto.response.stomp.RespStompJobEventDto;
+import com.dev.trackify_backend.dto.response.stomp.RespStompJobResumeDto;
+import com.dev.trackify_backend.event.JobEvent;
+import com.dev.trackify_backend.util.ChangeRing;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/** 역할
+ * 작업 상태 변경(JobEvent)을 커밋 후 STOMP로 전달 > 클라이언트의 작업 조회 폴링 대체
+ * - 기사 본인: /user/{userCode}/queue/jobs
+ * - 화물지 관제: /topic/cargo/{cargoId}/jobs
+ * 이벤트마다 seq 부여(ChangeRing), 재접속 시 /app/jobs/resume으로 놓친 이벤트만 다시 받음
+ * 링이 덮어써졌거나 epoch가 다르면 full=true > 클라이언트가 REST로 한 번만 다시 조회
+ * */
+@Component
+public class JobEventRelay {
+    public static final String USER_DESTINATION = "/queue/jobs";
+
+    @Autowired
+    private SimpMessagingTemplate broker;
+
+    private final ChangeRing<RespStompJobEventDto> ring;
+
+    public JobEventRelay(@Value("${trackify.job.event-log-size:4096}") int size) {
+        this.ring = new ChangeRing<>(size);
+    }
+
+    // 커밋 후 전달(롤백된 변경은 전송하지 않음), 트랜잭션 밖에서 발행된 경우에도 전달
+    // - seq 부여와 전송을 같은 잠금 안에서 > 브로커에 seq 순서대로 도착(7보다 8이 먼저 가면 since 8 재개 시 7 유실)
+    //   세션별 전송 순서는 WebSocketConfig의 preservePublishOrder가 유지
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobEvent(JobEvent e) {
+        synchronized (ring) {
+            long seq = ring.version() + 1;
+            RespStompJobEventDto dto = RespStompJobEventDto.from(e, ring.epoch(), seq);
+            ring.append(dto);
+
+            if (e.userCode() != null) {
+                // Principal 이름은 핸드셰이크에서 소문자로 정규화됨(WebSocketConfig) > DB의 userCode도 맞춰서 전송
+                broker.convertAndSendToUser(e.userCode().toLowerCase(Locale.ROOT), USER_DESTINATION, dto);
+            }
+            if (e.cargoId() > 0) {
+                broker.convertAndSend(cargoTopic(e.cargoId()), dto);
+            }
+        }
+    }
+
+    public static String cargoTopic(long cargoId) {
+        return "/topic/cargo/" + cargoId + "/jobs";
+    }
+
+    // 놓친 이벤트(본인 작업 또는 특정 화물지), 불가능하면 full
+    public RespStompJobResumeDto resume(String userCode, Long cargoId, Long epoch, Long seq) {
+        List<ChangeRing.Entry<RespStompJobEventDto>> entries =
+                epoch != null && seq != null && epoch == ring.epoch() ? ring.since(seq) : null;
+
+        if (entries == null) {
+            return RespStompJobResumeDto.builder()
+                    .epoch(ring.epoch())
+                    .seq(ring.version())
+                    .full(true)
+                    .events(List.of())
+                    .build();
+        }
+
+        List<RespStompJobEventDto> events = new ArrayList<>();
+        for (ChangeRing.Entry<RespStompJobEventDto> entry : entries) {
+            RespStompJobEventDto dto = entry.value();
+            boolean match = cargoId != null
+                    ? dto.getCargoId() == cargoId
+                    : userCode != null && userCode.equalsIgnoreCase(dto.getUserCode());
+            if (match) events.add(dto);
+        }
+        return RespStompJobResumeDto.builder()
+                .epoch(ring.epoch())
+                .seq(entries.isEmpty() ? seq : entries.get(entries.size() - 1).version())
+                .full(false)
+                .events(events)
+                .build();
+    }
+}
@@ -0,0 +1,322 @@
+package com.dev.trackify_backend.status;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/** 역할
+ * 수락된 모든 위치 틱을 append-only 세그먼트 파일(메모리 매핑)에 기록 > DB 쓰기 없이 사후 재생(replay)
+ * 핫패스(PresenceListener)는 제한 큐에 넣기만 함, 큐가 가득 차면 버림(dropped 지표) > 위치 처리 지연 없음
+ * 파일 쓰기는 전용 writer 스레드 1개: 사용자 사전(userCode > uid) 할당, 세그먼트 롤링
+ * 보존: 나이(retention-hours)와 전체 크기(max-bytes) 초과 시 오래된 세그먼트부터 삭제
+ * - 삭제한 세그먼트의 매핑은 GC가 회수할 때 해제 > 그때까지 디스크 공간이 반환되지 않으므로 max-bytes는 여유를 두고 설정
+ * 파일 구성(dir)
+ * - seg-{baseTs}.log: 24바이트 고정 레코드(LocationLogSegment)
+ * - users.dict: "uid\tuserCode" 줄 단위 append
+ * */
+@Slf4j
+@Component
+public class LocationLog implements PresenceListener {
+    private static final String DICT_FILE = "users.dict";
+
+    // 재생용 레코드(디코딩 결과)
+    public record Entry(long time, String userCode, double lat, double lng, boolean working) {}
+
+    // writer 큐 항목
+    private record Pending(long time, String userCode, double lat, double lng, int flags) {}
+
+    @Value("${trackify.location-log.enabled:true}")
+    private boolean enabled;
+
+    @Value("${trackify.location-log.dir:./data/location-log}")
+    private String dir;
+
+    @Value("${trackify.location-log.segment-bytes:67108864}")
+    private int segmentBytes;
+
+    @Value("${trackify.location-log.queue-capacity:65536}")
+    private int queueCapacity;
+
+    @Value("${trackify.location-log.retention-hours:72}")
+    private long retentionHours;
+
+    @Value("${trackify.location-log.max-bytes:2147483648}")
+    private long maxBytes;
+
+    @Autowired
+    private MeterRegistry registry;
+
+    private Path root;
+    private BlockingQueue<Pending> queue;
+    private Thread writer;
+    private volatile boolean running;
+
+    // 오래된 순, 마지막 항목이 현재 쓰기 세그먼트
+    private final List<LocationLogSegment> segments = new CopyOnWriteArrayList<>();
+    private LocationLogSegment current; // writer 스레드 전용
+
+    private final Map<String, Integer> uids = new ConcurrentHashMap<>();
+    private final Map<Integer, String> userCodes = new ConcurrentHashMap<>();
+    private BufferedWriter dictWriter; // writer 스레드 전용
+
+    private Counter written;
+    private Counter dropped;
+
+    @PostConstruct
+    public void init() {
+        if (!enabled) return;
+
+        root = Paths.get(dir);
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        written = Counter.builder("trackify.location.log").tag("result", "written").register(registry);
+        dropped = Counter.builder("trackify.location.log").tag("result", "dropped").register(registry);
+        Gauge.builder("trackify.location.log.queue", queue, BlockingQueue::size).register(registry);
+
+        try {
+            Files.createDirectories(root);
+            loadDictionary();
+            try (Stream<Path> files = Files.list(root)) {
+                files.filter(LocationLogSegment::isSegment)
+                        .sorted(Comparator.comparingLong(LocationLogSegment::baseTsOf))
+                        .forEach(p -> segments.add(LocationLogSegment.open(p)));
+            }
+            dictWriter = Files.newBufferedWriter(root.resolve(DICT_FILE), StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        running = true;
+        writer = new Thread(this::runWriter, "location-log-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (writer == null) return;
+        running = false;
+        try {
+            writer.join(5_000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 핫패스: 큐에 넣기만 함(블로킹 없음)
+    @Override
+    public void onUpdate(PresenceStatus.Presence p, boolean broadcast) {
+        if (!enabled) return;
+        int flags = (p.isWorking() ? LocationLogSegment.FLAG_WORKING : 0)
+                | (broadcast ? LocationLogSegment.FLAG_BROADCAST : 0);
+        long time = p.getLastMsgAt() > 0 ? p.getLastMsgAt() : System.currentTimeMillis();
+        if (!queue.offer(new Pending(time, p.getUserCode(), p.getLat(), p.getLng(), flags))) {
+            dropped.increment();
+        }
+    }
+
+    private void runWriter() {
+        List<Pending> batch = new ArrayList<>(1024);
+        long lastTs = segments.isEmpty() ? 0 : segments.get(segments.size() - 1).lastTs();
+
+        while (running || !queue.isEmpty()) {
+            try {
+                Pending first = queue.poll(200, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+                batch.add(first);
+                queue.drainTo(batch, 1023);
+
+                for (Pending p : batch) {
+                    // 세그먼트 안 ts 오름차순 보장(생산 스레드 간 역전은 직전 ts로 보정)
+                    lastTs = Math.max(lastTs, p.time());
+                    append(lastTs, p);
+                }
+                written.increment(batch.size());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.warn("Location log write failed: {}", e.getMessage());
+            } finally {
+                batch.clear();
+            }
+        }
+
+        if (current != null) current.force();
+        try {
+            if (dictWriter != null) dictWriter.close();
+        } catch (IOException e) {
+            log.warn("Failed to close location log dictionary: {}", e.getMessage());
+        }
+    }
+
+    private void append(long ts, Pending p) throws IOException {
+        if (current == null || current.isFull()) {
+            if (current != null) current.force();
+            current = LocationLogSegment.create(root, ts, segmentBytes);
+            segments.add(current);
+        }
+        current.append(ts, uidOf(p.userCode()),
+                (int) Math.round(p.lat() * 1e7), (int) Math.round(p.lng() * 1e7), p.flags());
+    }
+
+    // 처음 보는 userCode면 uid 할당 후 사전 파일에 기록(writer 스레드)
+    private int uidOf(String userCode) throws IOException {
+        Integer uid = uids.get(userCode);
+        if (uid != null) return uid;
+
+        int next = uids.size() + 1;
+        dictWriter.write(next + "\t" + userCode);
+        dictWriter.newLine();
+        dictWriter.flush();
+        userCodes.put(next, userCode);
+        uids.put(userCode, next);
+        return next;
+    }
+
+    private void loadDictionary() throws IOException {
+        Path dict = root.resolve(DICT_FILE);
+        if (!Files.exists(dict)) return;
+        for (String line : Files.readAllLines(dict, StandardCharsets.UTF_8)) {
+            int tab = line.indexOf('\t');
+            if (tab <= 0) continue;
+            int uid = Integer.parseInt(line.substring(0, tab));
+            String userCode = line.substring(tab + 1);
+            uids.put(userCode, uid);
+            userCodes.put(uid, userCode);
+        }
+    }
+
+    // 보존 정책: 나이/전체 크기 초과 세그먼트 삭제(현재 쓰기 세그먼트 제외)
+    @Scheduled(fixedDelay = 60_000)
+    public void enforceRetention() {
+        if (!enabled) return;
+        long cutoff = System.currentTimeMillis() - TimeUnit.HOURS.toMillis(retentionHours);
+        long total = segments.stream().mapToLong(LocationLogSegment::bytes).sum();
+
+        for (LocationLogSegment seg : segments) {
+            if (seg == segments.get(segments.size() - 1)) break;
+            if (seg.lastTs() >= cutoff && total <= maxBytes) break;
+            segments.remove(seg);
+            total -= seg.bytes();
+            try {
+                seg.delete();
+            } catch (Exception e) {
+                log.warn("Failed to delete location log segment: {}", e.getMessage());
+            }
+        }
+    }
+
+    // [from, to] 구간을 시간순으로 읽는 커서
+    // - userCode가 있으면 해당 사용자만, bbox(latE7/lngE7 범위)가 있으면 범위 안만
+    // - 호출 시점의 세그먼트 목록과 레코드 수 기준(이후 추가분은 다음 세그먼트 진입 시 반영)
+    public Cursor cursor(long from, long to, String userCode, double[] bbox) {
+        if (!enabled) {
+            throw new IllegalStateException("Error: location log is disabled");
+        }
+        Integer uid = null;
+        if (userCode != null) {
+            uid = uids.get(userCode);
+            if (uid == null) uid = -1; // 기록 없음 > 빈 결과
+        }
+        List<LocationLogSegment> range = segments.stream()
+                .filter(s -> s.baseTs() <= to && s.lastTs() >= from)
+                .toList();
+        return new Cursor(range, from, to, uid, bbox);
+    }
+
+    // 세그먼트는 읽는 동안만 참조(retain/release), 다 읽거나 close하면 반환 > 보존 정책이 지운 세그먼트는 마지막 커서가 반환할 때 파일 삭제
+    public final class Cursor implements AutoCloseable {
+        private final List<LocationLogSegment> range;
+        private final long to;
+        private final Integer uid;
+        private final int south, west, north, east;
+        private final boolean filterBox;
+        private final long from;
+
+        private int segIdx = -1;
+        private LocationLogSegment seg;
+        private int pos;
+
+        private Cursor(List<LocationLogSegment> range, long from, long to, Integer uid, double[] bbox) {
+            this.range = range;
+            this.from = from;
+            this.to = to;
+            this.uid = uid;
+            this.filterBox = bbox != null;
+            this.south = filterBox ? (int) Math.round(bbox[0] * 1e7) : 0;
+            this.west = filterBox ? (int) Math.round(bbox[1] * 1e7) : 0;
+            this.north = filterBox ? (int) Math.round(bbox[2] * 1e7) : 0;
+            this.east = filterBox ? (int) Math.round(bbox[3] * 1e7) : 0;
+        }
+
+        // 다음 레코드, 끝이면 null
+        public Entry next() {
+            while (true) {
+                if (seg == null || pos >= seg.count()) {
+                    releaseSegment();
+                    if (++segIdx >= range.size()) return null;
+                    LocationLogSegment nextSeg = range.get(segIdx);
+                    if (!nextSeg.retain()) continue; // 이미 보존 정책으로 삭제됨
+                    seg = nextSeg;
+                    pos = seg.lowerBound(from);
+                    continue;
+                }
+                int i = pos++;
+                long ts = seg.ts(i);
+                if (ts > to) {
+                    close();
+                    return null;
+                }
+                if (uid != null && seg.uid(i) != uid) continue;
+                int lat = seg.latE7(i), lng = seg.lngE7(i);
+                if (filterBox && (lat < south || lat > north || lng < west || lng > east)) continue;
+
+                return new Entry(ts, userCodes.get(seg.uid(i)), lat / 1e7, lng / 1e7,
+                        (seg.flags(i) & LocationLogSegment.FLAG_WORKING) != 0);
+            }
+        }
+
+        @Override
+        public void close() {
+            releaseSegment();
+            segIdx = range.size();
+        }
+
+        private void releaseSegment() {
+            if (seg == null) return;
+            seg.release();
+            seg = null;
+        }
+    }
+}
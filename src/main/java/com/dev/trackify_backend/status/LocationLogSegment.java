@@ -0,0 +1,177 @@
+package com.dev.trackify_backend.status;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/** 역할
+ * 위치 로그 세그먼트 파일 1개(고정 크기, 메모리 매핑)
+ * 레코드 24바이트: ts(long ms) | uid(int) | latE7(int) | lngE7(int) | flags(int)
+ * 파일명 = 첫 레코드 시각(seg-{baseTs}.log) > 세그먼트 단위 시간 인덱스
+ * 세그먼트 안의 레코드는 ts 오름차순(단일 writer가 보장) > 시작 시각은 이진 탐색
+ * 쓰기는 writer 스레드 1개만, 읽기는 count(volatile)까지만 > 락 없이 동시 읽기
+ * 참조 카운트: LocationLog가 1, 읽는 중인 커서마다 +1(retain/release)
+ * - delete()는 LocationLog 참조를 놓음, 마지막 참조가 풀리면 파일 삭제(읽는 중인 파일은 지우지 않음)
+ * - 매핑은 명시적으로 해제하지 않고 GC가 MappedByteBuffer를 회수할 때 해제됨
+ *   > 파일을 지워도 매핑이 회수되기 전까지 디스크 블록이 반환되지 않음(실제 사용량이 max-bytes를 잠시 넘을 수 있음)
+ * */
+final class LocationLogSegment {
+    static final int RECORD_BYTES = 24;
+    static final int FLAG_WORKING = 1;
+    static final int FLAG_BROADCAST = 1 << 1;
+
+    private static final String PREFIX = "seg-";
+    private static final String SUFFIX = ".log";
+
+    private final Path path;
+    private final long baseTs;
+    private final int capacity;
+    private final MappedByteBuffer buf;
+
+    private volatile int count;
+    private volatile long lastTs;
+
+    private final AtomicInteger refs = new AtomicInteger(1);
+
+    private LocationLogSegment(Path path, long baseTs, MappedByteBuffer buf) {
+        this.path = path;
+        this.baseTs = baseTs;
+        this.capacity = buf.capacity() / RECORD_BYTES;
+        this.buf = buf;
+    }
+
+    // 새 세그먼트(파일 크기 선할당, 0으로 채워짐)
+    static LocationLogSegment create(Path dir, long baseTs, int bytes) {
+        Path path = dir.resolve(PREFIX + baseTs + SUFFIX);
+        int size = (bytes / RECORD_BYTES) * RECORD_BYTES;
+        try (FileChannel ch = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return new LocationLogSegment(path, baseTs, ch.map(FileChannel.MapMode.READ_WRITE, 0, size));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 기존 세그먼트(읽기 전용), 기록된 레코드 수는 ts != 0 인 마지막 위치를 이진 탐색
+    static LocationLogSegment open(Path path) {
+        try (FileChannel ch = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = (ch.size() / RECORD_BYTES) * RECORD_BYTES;
+            LocationLogSegment seg = new LocationLogSegment(path, baseTsOf(path), ch.map(FileChannel.MapMode.READ_ONLY, 0, size));
+            int lo = 0, hi = seg.capacity;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (seg.ts(mid) != 0) lo = mid + 1; else hi = mid;
+            }
+            seg.count = lo;
+            seg.lastTs = lo > 0 ? seg.ts(lo - 1) : seg.baseTs;
+            return seg;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static boolean isSegment(Path path) {
+        String name = path.getFileName().toString();
+        return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+    }
+
+    static long baseTsOf(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+    }
+
+    // writer 스레드 전용
+    void append(long ts, int uid, int latE7, int lngE7, int flags) {
+        int pos = count * RECORD_BYTES;
+        buf.putLong(pos, ts);
+        buf.putInt(pos + 8, uid);
+        buf.putInt(pos + 12, latE7);
+        buf.putInt(pos + 16, lngE7);
+        buf.putInt(pos + 20, flags);
+        lastTs = ts;
+        count = count + 1; // volatile 쓰기로 레코드 공개
+    }
+
+    boolean isFull() {
+        return count >= capacity;
+    }
+
+    int count() {
+        return count;
+    }
+
+    long baseTs() {
+        return baseTs;
+    }
+
+    long lastTs() {
+        return lastTs;
+    }
+
+    long bytes() {
+        return (long) capacity * RECORD_BYTES;
+    }
+
+    long ts(int i) {
+        return buf.getLong(i * RECORD_BYTES);
+    }
+
+    int uid(int i) {
+        return buf.getInt(i * RECORD_BYTES + 8);
+    }
+
+    int latE7(int i) {
+        return buf.getInt(i * RECORD_BYTES + 12);
+    }
+
+    int lngE7(int i) {
+        return buf.getInt(i * RECORD_BYTES + 16);
+    }
+
+    int flags(int i) {
+        return buf.getInt(i * RECORD_BYTES + 20);
+    }
+
+    // ts 이상인 첫 레코드 위치(없으면 count)
+    int lowerBound(long ts) {
+        int lo = 0, hi = count;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (ts(mid) < ts) lo = mid + 1; else hi = mid;
+        }
+        return lo;
+    }
+
+    void force() {
+        buf.force();
+    }
+
+    // 읽기 전 참조 획득, 이미 삭제된 세그먼트면 false(읽지 않음)
+    boolean retain() {
+        while (true) {
+            int r = refs.get();
+            if (r == 0) return false;
+            if (refs.compareAndSet(r, r + 1)) return true;
+        }
+    }
+
+    // 읽기 후 참조 반환, 마지막 참조면 파일 삭제(매핑은 GC가 해제)
+    void release() {
+        if (refs.decrementAndGet() == 0) {
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    // 보존 정책에서 제외(LocationLog 참조 반환), 읽는 커서가 없으면 바로 삭제
+    void delete() {
+        release();
+    }
+}
@@ -0,0 +1,90 @@
+package com.dev.trackify_backend.status;
+
+import com.dev.trackify_backend.metrics.PresenceMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.converter.MessageConversionException;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.user.SimpUser;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/** 역할
+ * 이벤트 1건당 payload를 한 번만 직렬화(JSON byte[])하고, 모든 수신자에게 같은 본문을 재사용해서 전송
+ * convertAndSendToUser는 수신자마다 MessageConverter를 다시 타기 때문에 접속자가 많을수록 직렬화 비용이 선형으로 증가
+ * 헤더(content-type 등)도 변환 시 한 번만 만들고, 수신자별로는 destination만 바뀜
+ * 줌 아웃(클러스터) 지도를 보는 사용자는 기사별 이벤트를 받지 않음(mute) > ClusterStatus가 셀 델타로 대신 전송
+ * */
+@Component
+public class PresenceBroadcaster {
+    // 수신자별 이벤트 큐(/user/{userCode}/queue/events)
+    public static final String EVENTS_DESTINATION = "/queue/events";
+
+    @Autowired
+    private SimpMessagingTemplate broker;
+
+    // 현재 연결 중인 STOMP 사용자 목록 조회
+    @Autowired
+    private SimpUserRegistry simpUserRegistry;
+
+    @Autowired
+    private PresenceMetrics metrics;
+
+    // 기사별 이벤트 제외 대상(클러스터 구독 중인 userCode)
+    private final Set<String> muted = ConcurrentHashMap.newKeySet();
+
+    // payload > Message<byte[]> 변환(1회)
+    // - 브로커에 설정된 MessageConverter(Jackson)를 그대로 사용 > 기존 convertAndSendToUser와 같은 JSON/헤더
+    public Message<?> serialize(Object payload) {
+        Message<?> message = broker.getMessageConverter().toMessage(payload, null);
+        if (message == null) {
+            throw new MessageConversionException("Error: unable to serialize " + payload.getClass().getName());
+        }
+        return message;
+    }
+
+    // 본인(excludeUserCode)과 mute된 사용자를 제외한 모든 사용자에게 전송
+    // - 수신자가 한 명도 없으면 직렬화도 하지 않음
+    // - 반환값: 실제 전송한 사용자 수(fan-out 크기)
+    public int sendToOthers(String excludeUserCode, Object payload) {
+        Message<?> message = null;
+        int sent = 0;
+
+        for (SimpUser su : simpUserRegistry.getUsers()) {
+            String name = su.getName(); // Principal.getName()
+            if (name.equals(excludeUserCode) || muted.contains(name)) continue;
+            if (message == null) message = serialize(payload);
+
+            // 같은 payload(byte[])를 공유, destination 헤더만 수신자별로 설정됨
+            broker.send(userDestination(name, EVENTS_DESTINATION), message);
+            sent++;
+        }
+        metrics.fanOut(sent);
+        return sent;
+    }
+
+    // 클러스터 구독 시작/해제 > 기사별 이벤트 중단/재개
+    public void mute(String userCode) {
+        muted.add(userCode);
+    }
+
+    public void unmute(String userCode) {
+        muted.remove(userCode);
+    }
+
+    // 특정 사용자 1명에게 전송(이미 직렬화된 메시지 재사용)
+    public void sendToUser(String userCode, String destination, Message<?> message) {
+        broker.send(userDestination(userCode, destination), message);
+    }
+
+    // convertAndSendToUser와 동일한 규칙으로 /user/{userCode}/... 목적지 생성
+    private String userDestination(String userCode, String destination) {
+        String user = StringUtils.replace(userCode, "/", "%2F");
+        String dest = destination.startsWith("/") ? destination : "/" + destination;
+        return broker.getUserDestinationPrefix() + user + dest;
+    }
+}
@@ -0,0 +1,80 @@
+package com.dev.trackify_backend.status;
+
+import com.dev.trackify_backend.dto.response.stomp.RespStompSyncDto;
+import com.dev.trackify_backend.dto.response.stomp.RespStompUserDto;
+import com.dev.trackify_backend.util.ChangeRing;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/** 역할
+ * 다른 클라이언트에게 방송된 Presence 변경(갱신/퇴장)을 버전과 함께 기록
+ * 재접속한 클라이언트는 마지막으로 본 버전 이후 변경만 받음(사용자별 마지막 상태로 압축)
+ * 링이 덮어써졌거나 epoch가 다르면(서버 재시작/다른 노드) null > 전체 스냅샷으로 대체
+ * 방송되지 않은(스로틀된) 위치 틱은 기록하지 않음 > 클라이언트가 실시간으로 받는 이벤트와 같은 범위
+ * */
+@Component
+public class PresenceChangeLog {
+
+    // presence == null 이면 퇴장
+    private record Change(String userCode, RespStompUserDto presence) {}
+
+    private final ChangeRing<Change> ring;
+
+    public PresenceChangeLog(@Value("${trackify.presence.changelog-size:4096}") int size) {
+        this.ring = new ChangeRing<>(size);
+    }
+
+    public long recordPresence(RespStompUserDto dto) {
+        return ring.append(new Change(dto.getUserCode(), dto));
+    }
+
+    public long recordLeave(String userCode) {
+        return ring.append(new Change(userCode, null));
+    }
+
+    public long epoch() {
+        return ring.epoch();
+    }
+
+    public long version() {
+        return ring.version();
+    }
+
+    // 증분 동기화(본인 제외), 불가능하면 null
+    public RespStompSyncDto since(String userCode, Long epoch, Long version) {
+        if (epoch == null || version == null || epoch != ring.epoch()) return null;
+
+        List<ChangeRing.Entry<Change>> entries = ring.since(version);
+        if (entries == null) return null;
+        long current = entries.isEmpty() ? version : entries.get(entries.size() - 1).version();
+
+        // 사용자별 마지막 변경만 남김(최근 변경 순서 유지)
+        Map<String, Change> latest = new LinkedHashMap<>();
+        for (ChangeRing.Entry<Change> e : entries) {
+            Change c = e.value();
+            if (c.userCode().equals(userCode)) continue;
+            latest.remove(c.userCode());
+            latest.put(c.userCode(), c);
+        }
+
+        List<RespStompUserDto> presences = new ArrayList<>();
+        List<String> leaves = new ArrayList<>();
+        for (Change c : latest.values()) {
+            if (c.presence() != null) presences.add(c.presence());
+            else leaves.add(c.userCode());
+        }
+
+        return RespStompSyncDto.builder()
+                .epoch(ring.epoch())
+                .version(current)
+                .full(false)
+                .presences(presences)
+                .leaves(leaves)
+                .build();
+    }
+}
@@ -0,0 +1,207 @@
+package com.dev.trackify_backend.status;
+
+import com.dev.trackify_backend.util.GeoUtil;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/** 역할
+ * 실시간 Presence 좌표에 대한 공간 인덱스(균일 격자, 약 1km 셀)
+ * PresenceListener로 위치 틱마다 갱신 > 조회 시 저장소(Redis) 전체 스캔 없이 근처 셀만 탐색
+ * k-NN: 질의 지점 셀부터 링(ring)을 넓혀가며 탐색, k번째 거리보다 다음 링의 최소 거리가 멀어지면 종료
+ * 인덱스는 노드 로컬 상태(기동 시 저장소 전체로 초기화, 이후 이 노드가 처리한 변경으로 유지)
+ * */
+@Slf4j
+@Component
+public class PresenceIndex implements PresenceListener {
+    // 셀 크기(도): 위도 방향 약 1.1km
+    private static final double CELL_DEG = 0.01;
+    private static final long COLS = (long) Math.ceil(360.0 / CELL_DEG) + 1;
+    private static final double METERS_PER_DEG = 111_320.0;
+
+    // 링 확장 상한(약 100km), 넘어가면 전체 선형 스캔
+    private static final int MAX_RING = 100;
+
+    // 인덱스 항목(불변) > 조회 스레드가 락 없이 읽음
+    public record Entry(String userCode, String userName, double lat, double lng, boolean working, long cell) {}
+
+    // 근접 조회 결과
+    public record Neighbor(Entry entry, double distanceMeters) {}
+
+    @Autowired
+    private PresenceStore store;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<Long, Map<String, Entry>> cells = new ConcurrentHashMap<>();
+
+    // 기동 시 저장소에 남아 있는 Presence로 초기화
+    @PostConstruct
+    public void init() {
+        try {
+            store.findAll().forEach(this::put);
+        } catch (Exception e) {
+            log.warn("Failed to warm up presence index: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void onUpdate(PresenceStatus.Presence p, boolean broadcast) {
+        put(p);
+    }
+
+    @Override
+    public void onLeave(String userCode, PresenceStatus.Presence removed, String reason) {
+        remove(userCode);
+    }
+
+    public void put(PresenceStatus.Presence p) {
+        Entry next = new Entry(p.getUserCode(), p.getUserName(), p.getLat(), p.getLng(), p.isWorking(), cellOf(p.getLat(), p.getLng()));
+
+        // userCode 단위 원자적 갱신(셀 이동 포함)
+        entries.compute(p.getUserCode(), (k, prev) -> {
+            if (prev != null && prev.cell() != next.cell()) {
+                removeFromCell(prev);
+            }
+            cells.compute(next.cell(), (c, m) -> {
+                if (m == null) m = new ConcurrentHashMap<>();
+                m.put(k, next);
+                return m;
+            });
+            return next;
+        });
+    }
+
+    public void remove(String userCode) {
+        entries.computeIfPresent(userCode, (k, prev) -> {
+            removeFromCell(prev);
+            return null;
+        });
+    }
+
+    public Entry get(String userCode) {
+        return entries.get(userCode);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    // (lat, lng)에서 가장 가까운 k명(working 조건 일치, null이면 전체), 가까운 순
+    public List<Neighbor> nearest(double lat, double lng, int k, Boolean working) {
+        if (k <= 0 || entries.isEmpty()) return List.of();
+
+        // 최대 힙(가장 먼 후보가 top) > k개 유지
+        PriorityQueue<Neighbor> heap = new PriorityQueue<>(k + 1,
+                Comparator.comparingDouble(Neighbor::distanceMeters).reversed());
+
+        long row0 = row(lat);
+        long col0 = col(lng);
+        int total = entries.size();
+        int visited = 0;
+
+        for (int r = 0; r <= MAX_RING; r++) {
+            for (long dr = -r; dr <= r; dr++) {
+                // 링 테두리만 순회(위/아래 행은 전체, 중간 행은 양 끝 열)
+                long step = (Math.abs(dr) == r) ? 1 : 2L * r;
+                for (long dc = -r; dc <= r; dc += step) {
+                    Map<String, Entry> cell = cells.get(key(row0 + dr, col0 + dc));
+                    if (cell == null) continue;
+                    for (Entry e : cell.values()) {
+                        visited++;
+                        offer(heap, k, e, lat, lng, working);
+                    }
+                }
+            }
+
+            // 링 r 바깥의 점은 최소 r * 셀 크기(m) 이상 떨어져 있음
+            if (heap.size() == k && heap.peek().distanceMeters() <= r * minCellMeters(lat, r)) {
+                return sorted(heap);
+            }
+            if (visited >= total) {
+                return sorted(heap);
+            }
+        }
+
+        // 주변이 비어 있는 경우: 전체 선형 스캔
+        return linearScan(lat, lng, k, working);
+    }
+
+    // 비교/검증용 선형 스캔
+    public List<Neighbor> linearScan(double lat, double lng, int k, Boolean working) {
+        PriorityQueue<Neighbor> heap = new PriorityQueue<>(k + 1,
+                Comparator.comparingDouble(Neighbor::distanceMeters).reversed());
+        for (Entry e : entries.values()) {
+            offer(heap, k, e, lat, lng, working);
+        }
+        return sorted(heap);
+    }
+
+    // 위경도 사각형 안의 항목(남서~북동)
+    public List<Entry> within(double south, double west, double north, double east) {
+        List<Entry> out = new ArrayList<>();
+        for (long r = row(south); r <= row(north); r++) {
+            for (long c = col(west); c <= col(east); c++) {
+                Map<String, Entry> cell = cells.get(key(r, c));
+                if (cell == null) continue;
+                for (Entry e : cell.values()) {
+                    if (e.lat() >= south && e.lat() <= north && e.lng() >= west && e.lng() <= east) out.add(e);
+                }
+            }
+        }
+        return out;
+    }
+
+    private static void offer(PriorityQueue<Neighbor> heap, int k, Entry e, double lat, double lng, Boolean working) {
+        if (working != null && e.working() != working) return;
+
+        double d = GeoUtil.haversineMeters(lat, lng, e.lat(), e.lng());
+        if (heap.size() < k) {
+            heap.add(new Neighbor(e, d));
+        } else if (d < heap.peek().distanceMeters()) {
+            heap.poll();
+            heap.add(new Neighbor(e, d));
+        }
+    }
+
+    private static List<Neighbor> sorted(PriorityQueue<Neighbor> heap) {
+        List<Neighbor> out = new ArrayList<>(heap);
+        out.sort(Comparator.comparingDouble(Neighbor::distanceMeters));
+        return out;
+    }
+
+    private void removeFromCell(Entry e) {
+        cells.computeIfPresent(e.cell(), (c, m) -> {
+            m.remove(e.userCode(), e);
+            return m.isEmpty() ? null : m;
+        });
+    }
+
+    // 링 r까지 탐색했을 때 바깥 점까지의 최소 거리 하한 계산용 셀 크기(m)
+    // - 경도 방향 셀 폭은 고위도로 갈수록 좁아지므로 링 바깥쪽 위도 기준으로 보수적으로 계산
+    private static double minCellMeters(double lat, int r) {
+        double latCell = CELL_DEG * METERS_PER_DEG;
+        double edgeLat = Math.min(89.0, Math.abs(lat) + (r + 1) * CELL_DEG);
+        double lngCell = latCell * Math.cos(Math.toRadians(edgeLat));
+        return Math.min(latCell, lngCell);
+    }
+
+    private static long row(double lat) {
+        return (long) Math.floor((lat + 90.0) / CELL_DEG);
+    }
+
+    private static long col(double lng) {
+        return (long) Math.floor((lng + 180.0) / CELL_DEG);
+    }
+
+    private static long key(long row, long col) {
+        return row * COLS + col;
+    }
+
+    private static long cellOf(double lat, double lng) {
+        return key(row(lat), col(lng));
+    }
+}
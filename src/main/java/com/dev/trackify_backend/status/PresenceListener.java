@@ -0,0 +1,17 @@
+package com.dev.trackify_backend.status;
+
+/** 역할
+ * PresenceStatus의 상태 변화를 구독하는 확장 지점(공간 인덱스, 궤적, 변경 로그 등)
+ * PresenceStatus가 같은 스레드에서 직접 호출 > 위치 틱마다 불리므로 구현체는 가볍게(블로킹 I/O 금지)
+ * */
+public interface PresenceListener {
+
+    // 접속/위치/작업 상태 반영 후 호출(스로틀로 방송이 생략된 위치 틱 포함)
+    // - broadcast: 이번 변경이 다른 사용자에게 방송됐는지
+    default void onUpdate(PresenceStatus.Presence p, boolean broadcast) {}
+
+    // 퇴장 처리 후 호출
+    // - removed: 저장소에 남아 있던 마지막 상태(없었으면 null)
+    // - reason: "DISCONNECT" | "TIMEOUT"
+    default void onLeave(String userCode, PresenceStatus.Presence removed, String reason) {}
+}
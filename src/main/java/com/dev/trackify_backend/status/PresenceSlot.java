@@ -0,0 +1,48 @@
+package com.dev.trackify_backend.status;
+
+/** 역할
+ * 메모리 저장용 Presence 값(불변, 기본형 필드)
+ * - 저장 시 복사해서 보관, 조회 시 새 Presence로 풀어서 반환 > 호출자와 객체를 공유하지 않음
+ * - lastLat/lastLng가 없으면 NaN(박싱 없이 보관)
+ * InMemoryPresenceStore, HybridPresenceStore(near-cache)에서 사용
+ * */
+record PresenceSlot(String userCode,
+                    String userName,
+                    double lat,
+                    double lng,
+                    boolean working,
+                    long lastMsgAt,
+                    long lastPingRtt,
+                    long lastBroadcastAt,
+                    double lastLat,
+                    double lastLng) {
+
+    static PresenceSlot of(PresenceStatus.Presence p) {
+        return new PresenceSlot(
+                p.getUserCode(),
+                p.getUserName(),
+                p.getLat(),
+                p.getLng(),
+                p.isWorking(),
+                p.getLastMsgAt(),
+                p.getLastPingRtt(),
+                p.getLastBroadcastAt(),
+                p.getLastLat() != null ? p.getLastLat() : Double.NaN,
+                p.getLastLng() != null ? p.getLastLng() : Double.NaN);
+    }
+
+    PresenceStatus.Presence toPresence() {
+        return PresenceStatus.Presence.builder()
+                .userCode(userCode)
+                .userName(userName)
+                .lat(lat)
+                .lng(lng)
+                .working(working)
+                .lastMsgAt(lastMsgAt)
+                .lastPingRtt(lastPingRtt)
+                .lastBroadcastAt(lastBroadcastAt)
+                .lastLat(Double.isNaN(lastLat) ? null : lastLat)
+                .lastLng(Double.isNaN(lastLng) ? null : lastLng)
+                .build();
+    }
+}
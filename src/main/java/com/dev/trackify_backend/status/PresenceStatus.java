@@ -3,14 +3,14 @@ package com.dev.trackify_backend.status;
 import com.dev.trackify_backend.dto.response.stomp.RespStompLeaveDto;
 import com.dev.trackify_backend.dto.response.stomp.RespStompUserDto;
 import com.dev.trackify_backend.event.UserLeaveEvent;
+import com.dev.trackify_backend.metrics.PresenceMetrics;
+import com.dev.trackify_backend.util.GeoUtil;
 import jakarta.annotation.PostConstruct;
 import lombok.*;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
-import org.springframework.messaging.simp.user.SimpUser;
-import org.springframework.messaging.simp.user.SimpUserRegistry;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
@@ -19,7 +19,11 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
 
 /** 역할 
  * 업서트(접속/재접속): 클라이언트가 연결되면 존재 여부에 따라 새 Presence를 생성하거나 갱신
@@ -36,16 +40,49 @@ import java.util.concurrent.ConcurrentHashMap;
 @EnableScheduling // @Scheduled 메서드들 주기 실행
 public class PresenceStatus {
 
-    // 특정 사용자 큐로 STOMP 메세지 전송(convertAndSendToUser)
+    // 다른 사용자들에게 이벤트 전송(payload 1회 직렬화 후 재사용)
     @Autowired
-    private SimpMessagingTemplate broker;
+    private PresenceBroadcaster broadcaster;
 
-    // 현재 연결 중인 STOMP 사용자 목록/카운트 조회
+    // 저장소(trackify.presence.store=redis|memory|hybrid)
     @Autowired
-    private SimpUserRegistry simpUserRegistry;
+    private PresenceStore store;
+
+    // 사용자별 비동기 위치 갱신 상태: 실행 중 최대 1건 + 대기 1건(새 좌표가 오면 대기 좌표를 덮어씀)
+    private static final class AsyncLocation {
+        private final String userCode;
+        private double lat;
+        private double lng;
+        private CompletableFuture<Presence> pending; // 대기 중 갱신(덮어쓴 요청들이 같은 future 공유)
+        private boolean scheduled;                   // 실행 중 또는 실행 슬롯 대기 중
+        private boolean closed;                      // 퇴장 처리됨 > 저장/방송하지 않고 대기 갱신은 버림
+
+        private AsyncLocation(String userCode) {
+            this.userCode = userCode;
+        }
+    }
+
+    private final Map<String, AsyncLocation> asyncLocations = new ConcurrentHashMap<>();
+    // 전체 동시 실행 상한, 슬롯이 없으면 waiting에서 차례 대기
+    private final Queue<AsyncLocation> waitingLocations = new ConcurrentLinkedQueue<>();
+    private Semaphore asyncSlots;
 
+    @Value("${trackify.presence.async-max-in-flight:512}")
+    void setAsyncMaxInFlight(int maxInFlight) {
+        asyncSlots = new Semaphore(Math.max(1, maxInFlight));
+    }
+
+    // 방송/스윕/RTT 지표
     @Autowired
-    private PresenceStore store;
+    private PresenceMetrics metrics;
+
+    // 방송한 변경을 버전과 함께 기록(재접속 증분 동기화)
+    @Autowired
+    private PresenceChangeLog changeLog;
+
+    // 상태 변화 구독자(공간 인덱스 등), 같은 스레드에서 동기 호출
+    @Autowired(required = false)
+    private List<PresenceListener> listeners = List.of();
 
     // 도메인 이벤트 발행(퇴장 기록)
     @Autowired
@@ -81,47 +118,48 @@ public class PresenceStatus {
     private static final long MIN_BCAST_INTERVAL_MS = 800; // 최소 방송 간격(ms)
     private static final double MIN_BCAST_DISTANCE_M = 5.0; // 최소 이동 거리(m)
 
-    // 두 좌표 간의 거리(m)
-    private static double haversineMeters(double lat1, double lon1, double lat2, double lon2) {
-        final double R = 6_371_000.0; // 지구 반경 사용
-
-        double dLat = Math.toRadians(lat2 - lat1);
-        double dLon = Math.toRadians(lon2 - lon1);
-
-        double a = Math.sin(dLat/2) * Math.sin(dLat/2)
-                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
-                * Math.sin(dLon/2) * Math.sin(dLon/2);
-
-        return 2 * R * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+    // 브로드캐스트 유틸
+    // - 현재 연결된 모든 STOMP 사용자에게 전송하되, 본인(excludeUserCode)은 제외
+    // - 각 사용자 /user/queue/events, 직렬화는 PresenceBroadcaster에서 이벤트당 1회
+    private void sendToOthers(String excludeUserCode, Object payload) {
+        broadcaster.sendToOthers(excludeUserCode, payload);
     }
 
-    // [DEMO] (lat,lng)에서 bearing(방위각) 방향으로 meters만큼 진행된 새 좌표 계산 > 샘플 유저 이동 시 사용
-    private static double[] moveFrom(double lat, double lng, double meters, double bearingDeg) {
-        final double R = 6_371_000.0; // m
+    // 갱신/퇴장 방송 > 변경 로그에 기록 후 버전을 실어 전송
+    private void broadcastPresence(Presence p) {
+        RespStompUserDto dto = RespStompUserDto.from(p);
+        dto.setVersion(changeLog.recordPresence(dto));
+        sendToOthers(p.getUserCode(), dto);
+    }
 
-        double brng = Math.toRadians(bearingDeg);
-        double lat1 = Math.toRadians(lat);
-        double lon1 = Math.toRadians(lng);
-        double dr = meters / R;
-        
-        double lat2 = Math.asin(Math.sin(lat1) * Math.cos(dr) +
-                Math.cos(lat1) * Math.sin(dr) * Math.cos(brng));
-        double lon2 = lon1 + Math.atan2(
-                Math.sin(brng) * Math.sin(dr) * Math.cos(lat1),
-                Math.cos(dr) - Math.sin(lat1) * Math.sin(lat2));
+    private void broadcastLeave(String userCode) {
+        RespStompLeaveDto dto = RespStompLeaveDto.builder()
+                .userCode(userCode)
+                .respTime(Instant.now())
+                .build();
+        dto.setVersion(changeLog.recordLeave(userCode));
+        sendToOthers(userCode, dto);
+    }
 
-        return new double[]{ Math.toDegrees(lat2), Math.toDegrees(lon2) };
+    // 구독자 알림 유틸
+    // - 구독자 오류가 위치 처리/방송을 막지 않도록 개별로 격리
+    private void notifyUpdate(Presence p, boolean broadcast) {
+        for (PresenceListener l : listeners) {
+            try {
+                l.onUpdate(p, broadcast);
+            } catch (Exception e) {
+                log.warn("PresenceListener.onUpdate failed: {}", l.getClass().getSimpleName(), e);
+            }
+        }
     }
-    
-    // 브로드캐스트 유틸
-    // - 현재 연결된 모든 STOMP 사용자에게 전송하되, 본인(excludeUserCode)은 제외
-    // - 각 사용자 /user/queue/events
-    private void sendToOthers(String excludeUserCode, Object payload) {
-        for (SimpUser su : simpUserRegistry.getUsers()) {
-            String name = su.getName();            // Principal.getName()
-            if (name.equals(excludeUserCode)) continue;
-            // 모든 세션으로 전송 (특정 세션으로만 보내려면 sessionId 헤더 활용)
-            broker.convertAndSendToUser(su.getName(), "/queue/events", payload);
+
+    private void notifyLeave(String userCode, Presence removed, String reason) {
+        for (PresenceListener l : listeners) {
+            try {
+                l.onLeave(userCode, removed, reason);
+            } catch (Exception e) {
+                log.warn("PresenceListener.onLeave failed: {}", l.getClass().getSimpleName(), e);
+            }
         }
     }
 
@@ -150,7 +188,8 @@ public class PresenceStatus {
         }
 
         store.save(cur);
-        sendToOthers(userCode, RespStompUserDto.from(cur));
+        broadcastPresence(cur);
+        notifyUpdate(cur, true);
 
         return cur;
     }
@@ -160,6 +199,147 @@ public class PresenceStatus {
         Presence p = store.get(userCode);
         if (p == null) return null;
 
+        boolean broadcast = applyLocation(p, lat, lng);
+        store.save(p); // redis에 저장(방송하지 않아도 위치/시각은 저장)
+        afterLocation(p, broadcast);
+
+        return p;
+    }
+
+    // 위치 업데이트(비동기)
+    // - 조회 > 갱신 > 저장을 future로 이어서 실행, 호출 스레드는 Redis 응답을 기다리지 않음
+    // - 같은 사용자는 한 번에 1건만 실행 > 늦게 끝난 이전 위치가 최신 위치를 덮어쓰지 않음
+    // - 실행 중에 들어온 위치는 최신 1건만 대기(나머지는 덮어씀, coalesced 지표) > Redis가 느려져도 밀린 위치를 나중에 재생하지 않음
+    //   덮어쓴 요청의 future는 최종 반영된 갱신 결과로 완료
+    // - 전체 동시 실행은 async-max-in-flight로 제한 > 사용자 수와 무관하게 진행 중 연산이 제한됨
+    // - 저장소가 비동기를 지원하지 않으면(memory, async=false) 동기 처리 결과를 완료된 future로 반환
+    // - 퇴장과 겹친 갱신은 반영하지 않고 null로 완료(closeAsyncLocation)
+    public CompletableFuture<Presence> updateLocationAsync(String userCode, double lat, double lng) {
+        if (!store.isAsync()) {
+            return CompletableFuture.completedFuture(updateLocation(userCode, lat, lng));
+        }
+
+        AsyncLocation s = asyncLocations.computeIfAbsent(userCode, AsyncLocation::new);
+        CompletableFuture<Presence> result;
+        boolean schedule;
+        synchronized (s) {
+            if (s.closed) return CompletableFuture.completedFuture(null); // 퇴장 처리와 경합
+            s.lat = lat;
+            s.lng = lng;
+            if (s.pending == null) {
+                s.pending = new CompletableFuture<>();
+            } else {
+                metrics.locationCoalesced();
+            }
+            result = s.pending;
+            schedule = !s.scheduled;
+            s.scheduled = true;
+        }
+        if (schedule) schedule(s);
+        return result;
+    }
+
+    // 실행 슬롯이 있으면 바로 실행, 없으면 대기열
+    private void schedule(AsyncLocation s) {
+        if (asyncSlots.tryAcquire()) {
+            if (!runLocation(s)) {
+                asyncSlots.release();
+                drainWaitingLocations();
+            }
+            return;
+        }
+        waitingLocations.add(s);
+        drainWaitingLocations(); // 대기열에 넣는 사이 슬롯이 반환된 경우
+    }
+
+    private void drainWaitingLocations() {
+        while (!waitingLocations.isEmpty() && asyncSlots.tryAcquire()) {
+            AsyncLocation next = waitingLocations.poll();
+            if (next == null) {
+                asyncSlots.release();
+                return;
+            }
+            if (!runLocation(next)) asyncSlots.release(); // 대기 중에 퇴장 > 슬롯만 반환
+        }
+    }
+
+    // 슬롯을 가진 상태에서 대기 좌표 1건 실행, 끝나면 슬롯 반환 후 다음 대기 좌표가 있으면 다시 예약
+    // - 이미 퇴장했으면 실행하지 않고 false(슬롯 반환은 호출자)
+    private boolean runLocation(AsyncLocation s) {
+        double lat, lng;
+        CompletableFuture<Presence> result;
+        synchronized (s) {
+            if (s.closed) {
+                s.scheduled = false;
+                return false;
+            }
+            lat = s.lat;
+            lng = s.lng;
+            result = s.pending;
+            s.pending = null;
+        }
+
+        CompletableFuture<Presence> op;
+        try {
+            op = store.getAsync(s.userCode).thenCompose(p -> {
+                if (p == null || isClosed(s)) return CompletableFuture.completedFuture(null);
+
+                boolean broadcast = applyLocation(p, lat, lng);
+                return store.saveAsync(p).thenCompose(v -> {
+                    // 퇴장 판정과 같은 락 안에서 방송 > LEAVE 뒤에 위치 방송이 나가지 않음
+                    synchronized (s) {
+                        if (!s.closed) {
+                            afterLocation(p, broadcast);
+                            return CompletableFuture.completedFuture(p);
+                        }
+                    }
+                    // 저장 중에 퇴장 > 이 저장이 퇴장의 delete보다 늦게 반영됐을 수 있으므로 다시 삭제
+                    return store.deleteAsync(s.userCode).thenApply(x -> (Presence) null);
+                });
+            });
+        } catch (RuntimeException e) {
+            op = CompletableFuture.failedFuture(e);
+        }
+
+        op.whenComplete((p, e) -> {
+            if (e != null) result.completeExceptionally(e); else result.complete(p);
+
+            boolean more;
+            synchronized (s) {
+                more = s.pending != null && !s.closed;
+                if (!more) s.scheduled = false;
+            }
+            asyncSlots.release();
+            if (more) schedule(s); // 대기열 뒤로 > 다른 사용자와 공평하게
+            drainWaitingLocations();
+        });
+        return true;
+    }
+
+    private static boolean isClosed(AsyncLocation s) {
+        synchronized (s) {
+            return s.closed;
+        }
+    }
+
+    // 퇴장 시 비동기 위치 갱신 종료(저장소 삭제 전에 호출)
+    // - 실행 중인 갱신은 저장/방송하지 않음, 대기 중인 갱신은 버림(null로 완료)
+    // - 맵에서도 제거 > 재접속 후 갱신은 새 상태로 시작
+    private void closeAsyncLocation(String userCode) {
+        AsyncLocation s = asyncLocations.remove(userCode);
+        if (s == null) return;
+
+        CompletableFuture<Presence> dropped;
+        synchronized (s) {
+            s.closed = true;
+            dropped = s.pending;
+            s.pending = null;
+        }
+        if (dropped != null) dropped.complete(null);
+    }
+
+    // 좌표/시각 반영 + 방송 여부 판단(시간/거리 조건을 모두 만족할 때만 방송)
+    private boolean applyLocation(Presence p, double lat, double lng) {
         long now = System.currentTimeMillis();
 
         p.setLat(lat);
@@ -169,19 +349,26 @@ public class PresenceStatus {
         boolean timeOk = (now - p.getLastBroadcastAt()) >= MIN_BCAST_INTERVAL_MS;
         boolean distOk = true;
         if (p.getLastLat() != null && p.getLastLng() != null) {
-            distOk = haversineMeters(p.getLastLat(), p.getLastLng(), lat, lng) >= MIN_BCAST_DISTANCE_M;
+            distOk = GeoUtil.haversineMeters(p.getLastLat(), p.getLastLng(), lat, lng) >= MIN_BCAST_DISTANCE_M;
         }
         if (timeOk && distOk) {
             p.setLastBroadcastAt(now);
             p.setLastLat(lat);
             p.setLastLng(lng);
-            store.save(p); // redis에 저장
-            sendToOthers(userCode, RespStompUserDto.from(p));
-        } else {
-            store.save(p); // 위치/시각 갱신만 저장
+            return true;
         }
+        return false;
+    }
 
-        return p;
+    // 저장 후 방송/지표/구독자 알림
+    private void afterLocation(Presence p, boolean broadcast) {
+        if (broadcast) {
+            broadcastPresence(p);
+            metrics.broadcastSent();
+        } else {
+            metrics.broadcastSuppressed();
+        }
+        notifyUpdate(p, broadcast);
     }
 
     // 작업 상태 토글
@@ -195,7 +382,8 @@ public class PresenceStatus {
         p.setLastMsgAt(System.currentTimeMillis());
 
         store.save(p);
-        sendToOthers(userCode, RespStompUserDto.from(p));
+        broadcastPresence(p);
+        notifyUpdate(p, true);
 
         return p;
     }
@@ -210,6 +398,7 @@ public class PresenceStatus {
 
         p.setLastMsgAt(now);
         p.setLastPingRtt(Math.max(0, now - clientSendTs)); // 음수 방지
+        metrics.pingRtt(p.getLastPingRtt());
 
         store.save(p);
 
@@ -219,6 +408,7 @@ public class PresenceStatus {
     // 강제 제거-로그아웃(LEAVE + 이벤트)
     public void disconnect(String userCode, Double cachedLat, Double cachedLng) {
         Presence removed = store.get(userCode);
+        closeAsyncLocation(userCode); // 진행 중인 비동기 갱신이 삭제 뒤에 다시 저장/방송하지 않도록 먼저 종료
         store.delete(userCode); // 저장소에서 즉시 삭제 > 스냅샷/브로드캐스트에서 제외
         
         // 마지막 위치 저장을 위한  좌표 정보 추출
@@ -228,10 +418,9 @@ public class PresenceStatus {
         }
 
         // 다른 클라언트들에게 퇴장 알림(프론트에서 map에서 제거)
-        sendToOthers(userCode, RespStompLeaveDto.builder()
-                .userCode(userCode)
-                .respTime(Instant.now())
-                .build());
+        broadcastLeave(userCode);
+
+        notifyLeave(userCode, removed, "DISCONNECT");
 
         // 이벤트 발행 (DB 저장은 StompService가 처리)
         publisher.publishEvent(new UserLeaveEvent(userCode, lat, lng, Instant.now(), "DISCONNECT"));
@@ -274,7 +463,7 @@ public class PresenceStatus {
             if (!u.startsWith("user")) continue; // 샘플만 이동
             double speed = sampleSpeedMps.getOrDefault(u, 8.0);
             double bearing = sampleBearingDeg.getOrDefault(u, 0.0);
-            double[] next = moveFrom(p.getLat(), p.getLng(), speed, bearing);
+            double[] next = GeoUtil.moveFrom(p.getLat(), p.getLng(), speed, bearing);
             updateLocation(u, next[0], next[1]);
             sampleBearingDeg.put(u, (bearing + 5.0) % 360.0);
         }
@@ -283,22 +472,26 @@ public class PresenceStatus {
     // 30초 무응답 시 > TIMEOUT 처리
     @Scheduled(fixedDelay = 5_000)
     public void sweepAndMark() {
+        var sample = metrics.startSweep();
         long now = System.currentTimeMillis();
+        List<Presence> all = new ArrayList<>(store.findAll());
+        long online = all.size();
 
-        for (Presence p : new ArrayList<>(store.findAll())) {
+        for (Presence p : all) {
             long idle = now - p.getLastMsgAt();
             if (idle > OFFLINE_AFTER) {
+                closeAsyncLocation(p.getUserCode());
                 store.delete(p.getUserCode());
-                sendToOthers(p.getUserCode(),
-                        RespStompLeaveDto.builder()
-                                .userCode(p.getUserCode())
-                                .respTime(Instant.now())
-                                .build());
+                broadcastLeave(p.getUserCode());
+                notifyLeave(p.getUserCode(), p, "TIMEOUT");
 
                 // 이벤트 발행 (이유: TIMEOUT)
                 publisher.publishEvent(new UserLeaveEvent(
                         p.getUserCode(), p.getLat(), p.getLng(), Instant.now(), "TIMEOUT"));
+                online--;
             }
         }
+        metrics.online(online);
+        metrics.stopSweep(sample);
     }
 }
@@ -0,0 +1,79 @@
+package com.dev.trackify_backend.status;
+
+import com.dev.trackify_backend.metrics.PresenceMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/** 역할
+ * RedisPresenceStore의 비동기 연산(Lettuce reactive API) > 결과를 CompletableFuture로 반환
+ * - 호출 스레드는 명령만 보내고 즉시 반환 > 적은 스레드로 많은 동시 위치 갱신 처리
+ * - Lettuce는 한 커넥션에 여러 스레드의 명령을 응답을 기다리지 않고 이어서 전송(자동 파이프라이닝)
+ * - 완료 콜백은 별도 스레드(presence-async-*)로 넘김 > Lettuce I/O 스레드에서 방송/구독자 처리가 돌지 않도록
+ * key/value 형식은 RedisPresenceStore와 같음(같은 Redis 데이터를 함께 사용)
+ * trackify.presence.async=true일 때만 생성, RedisPresenceStore(hybrid 포함)의 getAsync/saveAsync/deleteAsync가 위임
+ * */
+@Component
+@ConditionalOnProperty(name = "trackify.presence.async", havingValue = "true")
+public class ReactivePresenceStore {
+
+    @Autowired
+    private ReactiveRedisTemplate<String, PresenceStatus.Presence> reactiveRedisTemplate;
+
+    @Autowired
+    private PresenceMetrics metrics;
+
+    // 완료 콜백 스레드 수
+    @Value("${trackify.presence.async-threads:2}")
+    private int callbackThreads;
+
+    private ExecutorService callbackExecutor;
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger seq = new AtomicInteger();
+        callbackExecutor = Executors.newFixedThreadPool(Math.max(1, callbackThreads), r -> {
+            Thread t = new Thread(r, "presence-async-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        callbackExecutor.shutdown();
+    }
+
+    private String k(String userCode) {
+        return RedisPresenceStore.PREFIX + userCode;
+    }
+
+    // 단일 조회(없으면 null로 완료)
+    public CompletableFuture<PresenceStatus.Presence> get(String userCode) {
+        return metrics.storeAsync("get", () -> onCallbackThread(reactiveRedisTemplate.opsForValue().get(k(userCode)).toFuture()));
+    }
+
+    // 저장
+    public CompletableFuture<Void> save(PresenceStatus.Presence p) {
+        return metrics.storeAsync("save", () -> onCallbackThread(reactiveRedisTemplate.opsForValue().set(k(p.getUserCode()), p).then().toFuture()));
+    }
+
+    // 삭제
+    public CompletableFuture<Void> delete(String userCode) {
+        return metrics.storeAsync("delete", () -> onCallbackThread(reactiveRedisTemplate.delete(k(userCode)).then().toFuture()));
+    }
+
+    private <T> CompletableFuture<T> onCallbackThread(CompletableFuture<T> f) {
+        return f.thenApplyAsync(Function.identity(), callbackExecutor);
+    }
+}
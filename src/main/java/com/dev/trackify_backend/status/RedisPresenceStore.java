@@ -0,0 +1,116 @@
+package com.dev.trackify_backend.status;
+
+import com.dev.trackify_backend.metrics.PresenceMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+/** 역할
+ * RedisConfig를 바탕으로 실제 Presence(접속자 상태)객체 데이터를 Redis에 저장/조회/삭제/전체 조회
+ * PresenceStatus.Presence를 저장할 때 항상 "presence:" 접두사를 붙여서 key를 구성 > Redis 내부의 namespace 구분
+ * RedisTemplate을 직접 사용하는 대신, 이 클래스가 중간에서 캡슐화하여 코드의 일관성과 재사용성을 높여줌
+ * 전체 조회 시 SCAN 사용으로 대량 데이터에서도 블로킹 없이 동작
+ * 연산별 지연은 여기서 측정(trackify.presence.store), trackify.presence.store=redis(기본)일 때 사용
+ * trackify.presence.async=true면 비동기 연산은 ReactivePresenceStore(Lettuce reactive)로 위임
+ * */
+@Component
+@ConditionalOnProperty(name = "trackify.presence.store", havingValue = "redis", matchIfMissing = true)
+public class RedisPresenceStore implements PresenceStore {
+    // Key 접두사
+    static final String PREFIX = "presence:";
+
+    // RedisConfig에서 만든 RedisTemplate<String, PresenceStatus.Presence> 주입
+    @Autowired
+    private RedisTemplate<String, PresenceStatus.Presence> redisTemplate;
+
+    // Redis 연산 지연 측정(op별 Timer)
+    @Autowired
+    private PresenceMetrics metrics;
+
+    // 비동기 연산(trackify.presence.async=true일 때만 존재)
+    @Autowired(required = false)
+    private ReactivePresenceStore reactiveStore;
+
+    // Key 생성 헬퍼
+    // - 코드 중복 및 실수 방지
+    private String k(String userCode) {
+        return PREFIX + userCode;
+    }
+
+    // 단일 조회
+    // - opsForValue(): Redis의 String(Value)타입 명령어 사용 > Value는 Presence 객체, JSON 직렬화/역직렬화됨
+    @Override
+    public PresenceStatus.Presence get(String userCode) {
+        return metrics.store("get", () -> redisTemplate.opsForValue().get(k(userCode)));
+    }
+
+    // 저장
+    @Override
+    public void save(PresenceStatus.Presence p) {
+        metrics.store("save", () -> redisTemplate.opsForValue().set(k(p.getUserCode()), p));
+    }
+
+    // 삭제
+    @Override
+    public void delete(String userCode) {
+        metrics.store("delete", () -> { redisTemplate.delete(k(userCode)); });
+    }
+
+    // 전체 스캔
+    // keys presence:* 명령어로 전체 조회가 가능하지만 성능상 비효율적(대규모 데이터에서 블로킹) > SCAN 사용 - 점진적으로 키를 탐색(non-blocking)
+    @Override
+    public List<PresenceStatus.Presence> findAll() {
+        return metrics.store("findAll", this::scanAll);
+    }
+
+    @Override
+    public boolean isAsync() {
+        return reactiveStore != null;
+    }
+
+    @Override
+    public CompletableFuture<PresenceStatus.Presence> getAsync(String userCode) {
+        return reactiveStore != null ? reactiveStore.get(userCode) : PresenceStore.super.getAsync(userCode);
+    }
+
+    @Override
+    public CompletableFuture<Void> saveAsync(PresenceStatus.Presence p) {
+        return reactiveStore != null ? reactiveStore.save(p) : PresenceStore.super.saveAsync(p);
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteAsync(String userCode) {
+        return reactiveStore != null ? reactiveStore.delete(userCode) : PresenceStore.super.deleteAsync(userCode);
+    }
+
+    private List<PresenceStatus.Presence> scanAll() {
+        List<PresenceStatus.Presence> out = new ArrayList<>();
+
+        // ScanOptions:
+        // - .match(PREFIX + "*"): "presence:*" 패턴으로 찾음
+        // - .count(512): 한 번에 가져올 키 개수 힌트
+        ScanOptions opts = ScanOptions.scanOptions().match(PREFIX + "*").count(512).build();
+
+        // conn.scan(opts): Redis 커넥션에서 SCAN 실행.
+        var conn = Objects.requireNonNull(redisTemplate.getConnectionFactory()).getConnection();
+
+        // Cursor<byte[]> cur: 키들을 순회할 수 있는 커서.
+        try (Cursor<byte[]> cur = conn.scan(opts)) {
+            while (cur.hasNext()) {
+                String key = new String(cur.next(), StandardCharsets.UTF_8); // btye[] > String으로 변환
+                PresenceStatus.Presence p = redisTemplate.opsForValue().get(key); // 해당 키의 객체 조회
+                if (p != null) out.add(p);
+            }
+        }
+        return out;
+    }
+}
@@ -0,0 +1,160 @@
+package com.dev.trackify_backend.status;
+
+import com.dev.trackify_backend.dto.response.rest.RespRestTrailDto;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/** 역할
+ * 사용자별 최근 위치 N개(궤적)를 고정 크기 링 버퍼로 유지
+ * - 좌표는 1e-5도(약 1m) 정수로 양자화, 시각은 버퍼 기준 시각으로부터의 ms 오프셋(int)
+ * - 사용자당 메모리 = N * 12바이트 + 고정 헤더 > 전체 기사 수에 선형, 이동 거리/접속 시간과 무관
+ * 방송 스로틀과 무관하게 수락된 위치 틱을 모두 기록, 퇴장 시 버퍼 제거
+ * /topic/presence/trail/{userCode} 구독자가 있을 때만 새 지점을 실시간 전송
+ * */
+@Component
+public class TrailStatus implements PresenceListener {
+    public static final String TRAIL_TOPIC = "/topic/presence/trail/";
+    private static final double SCALE = 1e5;
+
+    @Autowired
+    private SimpMessagingTemplate broker;
+
+    @Value("${trackify.trail.size:120}")
+    private int trailSize;
+
+    // 사용자별 궤적 링 버퍼(배열 3개, 생성 후 크기 고정)
+    static final class Trail {
+        private final int[] lat;
+        private final int[] lng;
+        private final int[] dt;
+        private long baseMs;
+        private int head;   // 다음 기록 위치
+        private int size;
+
+        Trail(int capacity, long baseMs) {
+            this.lat = new int[capacity];
+            this.lng = new int[capacity];
+            this.dt = new int[capacity];
+            this.baseMs = baseMs;
+        }
+
+        synchronized boolean add(double latitude, double longitude, long at) {
+            int qLat = (int) Math.round(latitude * SCALE);
+            int qLng = (int) Math.round(longitude * SCALE);
+
+            // 양자화 기준 같은 위치면 생략(핑/작업 토글 등)
+            if (size > 0) {
+                int last = (head - 1 + lat.length) % lat.length;
+                if (lat[last] == qLat && lng[last] == qLng) return false;
+            }
+            // int 오프셋 범위(약 24일)를 넘으면 초기화
+            if (at - baseMs > Integer.MAX_VALUE || at < baseMs) {
+                baseMs = at;
+                head = 0;
+                size = 0;
+            }
+
+            lat[head] = qLat;
+            lng[head] = qLng;
+            dt[head] = (int) (at - baseMs);
+            head = (head + 1) % lat.length;
+            if (size < lat.length) size++;
+            return true;
+        }
+
+        // 오래된 순
+        synchronized List<RespRestTrailDto.Point> points() {
+            List<RespRestTrailDto.Point> out = new ArrayList<>(size);
+            int start = (head - size + lat.length) % lat.length;
+            for (int i = 0; i < size; i++) {
+                int idx = (start + i) % lat.length;
+                out.add(point(lat[idx], lng[idx], baseMs + dt[idx]));
+            }
+            return out;
+        }
+    }
+
+    private final Map<String, Trail> trails = new ConcurrentHashMap<>();
+
+    // 실시간 궤적 구독 수(userCode별), 세션/구독 ID로 해제 추적
+    private final Map<String, AtomicInteger> watchers = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, String>> subscriptions = new ConcurrentHashMap<>();
+
+    @Override
+    public void onUpdate(PresenceStatus.Presence p, boolean broadcast) {
+        long now = p.getLastMsgAt() > 0 ? p.getLastMsgAt() : System.currentTimeMillis();
+        Trail trail = trails.computeIfAbsent(p.getUserCode(), k -> new Trail(Math.max(1, trailSize), now));
+        if (!trail.add(p.getLat(), p.getLng(), now)) return;
+
+        AtomicInteger w = watchers.get(p.getUserCode());
+        if (w != null && w.get() > 0) {
+            broker.convertAndSend(TRAIL_TOPIC + p.getUserCode(),
+                    point((int) Math.round(p.getLat() * SCALE), (int) Math.round(p.getLng() * SCALE), now));
+        }
+    }
+
+    @Override
+    public void onLeave(String userCode, PresenceStatus.Presence removed, String reason) {
+        trails.remove(userCode);
+    }
+
+    // 최근 궤적(오래된 순), 없으면 빈 목록
+    public List<RespRestTrailDto.Point> getTrail(String userCode) {
+        Trail trail = trails.get(userCode);
+        return trail == null ? List.of() : trail.points();
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent e) {
+        SimpMessageHeaderAccessor acc = SimpMessageHeaderAccessor.wrap(e.getMessage());
+        String dest = acc.getDestination();
+        if (dest == null || !dest.startsWith(TRAIL_TOPIC) || acc.getSessionId() == null || acc.getSubscriptionId() == null) return;
+
+        String userCode = dest.substring(TRAIL_TOPIC.length());
+        String prev = subscriptions.computeIfAbsent(acc.getSessionId(), k -> new ConcurrentHashMap<>())
+                .put(acc.getSubscriptionId(), userCode);
+        if (prev != null) release(prev);
+        watchers.compute(userCode, (k, w) -> {
+            if (w == null) w = new AtomicInteger();
+            w.incrementAndGet();
+            return w;
+        });
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent e) {
+        SimpMessageHeaderAccessor acc = SimpMessageHeaderAccessor.wrap(e.getMessage());
+        Map<String, String> subs = acc.getSessionId() == null ? null : subscriptions.get(acc.getSessionId());
+        if (subs == null || acc.getSubscriptionId() == null) return;
+
+        String userCode = subs.remove(acc.getSubscriptionId());
+        if (userCode != null) release(userCode);
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent e) {
+        Map<String, String> subs = subscriptions.remove(e.getSessionId());
+        if (subs != null) subs.values().forEach(this::release);
+    }
+
+    private void release(String userCode) {
+        watchers.computeIfPresent(userCode, (k, w) -> w.decrementAndGet() <= 0 ? null : w);
+    }
+
+    private static RespRestTrailDto.Point point(int qLat, int qLng, long at) {
+        return new RespRestTrailDto.Point(qLat / SCALE, qLng / SCALE, at);
+    }
+}
@@ -0,0 +1,60 @@
+package com.dev.trackify_backend.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/** 역할
+ * 고정 크기 링 버퍼 변경 로그, 항목마다 단조 증가 버전(1, 2, 3, ...)을 부여
+ * 클라이언트가 마지막으로 본 버전을 보내면 그 이후 변경만 돌려줌
+ * 링이 한 바퀴 돌아 필요한 구간이 덮어써졌으면 null > 호출 측에서 전체 스냅샷으로 대체
+ * epoch: 인스턴스 생성 시각, 서버 재시작/다른 노드의 버전과 섞이지 않도록 함께 비교
+ * */
+public final class ChangeRing<T> {
+
+    public record Entry<T>(long version, T value) {}
+
+    private final long epoch = System.currentTimeMillis();
+    private final Object[] buf;
+    private long version; // 마지막으로 부여한 버전(0 = 비어 있음)
+
+    public ChangeRing(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Error: capacity must be positive");
+        }
+        this.buf = new Object[capacity];
+    }
+
+    public long epoch() {
+        return epoch;
+    }
+
+    // 변경 추가 > 부여된 버전 반환
+    public synchronized long append(T value) {
+        version++;
+        buf[(int) (version % buf.length)] = new Entry<>(version, value);
+        return version;
+    }
+
+    public synchronized long version() {
+        return version;
+    }
+
+    // 아직 링에 남아 있는 가장 오래된 버전
+    public synchronized long oldestVersion() {
+        return Math.max(1, version - buf.length + 1);
+    }
+
+    // after 이후(after 제외) 변경, 오래된 순
+    // - after가 현재 버전보다 크거나(재시작 등) 이미 덮어써진 구간이면 null
+    @SuppressWarnings("unchecked")
+    public synchronized List<Entry<T>> since(long after) {
+        if (after < 0 || after > version || after + 1 < oldestVersion()) {
+            return null;
+        }
+        List<Entry<T>> out = new ArrayList<>((int) (version - after));
+        for (long v = after + 1; v <= version; v++) {
+            out.add((Entry<T>) buf[(int) (v % buf.length)]);
+        }
+        return out;
+    }
+}
@@ -0,0 +1,63 @@
+package com.dev.trackify_backend.util;
+
+/** 역할
+ * 좌표 계산 공통 유틸(거리/이동)
+ * PresenceStatus 내부에 있던 계산식을 분리 > 벤치마크/다른 상태 엔진에서도 같은 식을 재사용
+ * */
+public final class GeoUtil {
+    // 지구 반경(m)
+    public static final double EARTH_RADIUS_M = 6_371_000.0;
+
+    private GeoUtil() {}
+
+    // 두 좌표 간의 거리(m)
+    public static double haversineMeters(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+
+        double a = Math.sin(dLat/2) * Math.sin(dLat/2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLon/2) * Math.sin(dLon/2);
+
+        return 2 * EARTH_RADIUS_M * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+    }
+
+    // (lat,lng)에서 bearing(방위각) 방향으로 meters만큼 진행된 새 좌표 계산
+    public static double[] moveFrom(double lat, double lng, double meters, double bearingDeg) {
+        double brng = Math.toRadians(bearingDeg);
+        double lat1 = Math.toRadians(lat);
+        double lon1 = Math.toRadians(lng);
+        double dr = meters / EARTH_RADIUS_M;
+
+        double lat2 = Math.asin(Math.sin(lat1) * Math.cos(dr) +
+                Math.cos(lat1) * Math.sin(dr) * Math.cos(brng));
+        double lon2 = lon1 + Math.atan2(
+                Math.sin(brng) * Math.sin(dr) * Math.cos(lat1),
+                Math.cos(dr) - Math.sin(lat1) * Math.sin(lat2));
+
+        return new double[]{ Math.toDegrees(lat2), Math.toDegrees(lon2) };
+    }
+
+    // 웹 메르카토르 타일 좌표(슬리피 맵 z/x/y)
+    // - 위도는 메르카토르 유효 범위(±85.0511)로 제한
+    public static int tileX(double lng, int zoom) {
+        int n = 1 << zoom;
+        return Math.max(0, Math.min(n - 1, (int) Math.floor(mercatorX(lng, zoom))));
+    }
+
+    public static int tileY(double lat, int zoom) {
+        int n = 1 << zoom;
+        return Math.max(0, Math.min(n - 1, (int) Math.floor(mercatorY(lat, zoom))));
+    }
+
+    // 타일 단위 연속 좌표(정수부 = 타일 번호, 소수부 = 타일 안 위치)
+    public static double mercatorX(double lng, int zoom) {
+        return (lng + 180.0) / 360.0 * (1 << zoom);
+    }
+
+    public static double mercatorY(double lat, int zoom) {
+        double clamped = Math.max(-85.0511, Math.min(85.0511, lat));
+        double rad = Math.toRadians(clamped);
+        return (1.0 - Math.log(Math.tan(rad) + 1.0 / Math.cos(rad)) / Math.PI) / 2.0 * (1 << zoom);
+    }
+}
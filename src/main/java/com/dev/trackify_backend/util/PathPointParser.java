@@ -0,0 +1,94 @@
+package com.dev.trackify_backend.util;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+
+/** 역할
+ * job_tb.paths(JSON 배열)를 스트리밍으로 한 지점씩 디코딩(전체 트리/목록을 만들지 않음)
+ * 지원 형식
+ * - [{"lat": .., "lng": .., "t": ..}, ...]  (lng 대신 lon/longitude, t 대신 time/timestamp 허용)
+ * - [[lat, lng], ...] 또는 [[lat, lng, t], ...]
+ * 시각(t)은 epoch ms, 1e11 미만이면 초 단위로 보고 ms로 변환, 없으면 NaN
+ * */
+public final class PathPointParser implements Closeable {
+    private static final JsonFactory FACTORY = new JsonFactory();
+
+    private final JsonParser parser;
+    private boolean started;
+
+    public PathPointParser(Reader reader) throws IOException {
+        this.parser = FACTORY.createParser(reader);
+    }
+
+    // 다음 지점 {lat, lng, timeMs}, 끝이면 null
+    public double[] next() throws IOException {
+        if (!started) {
+            JsonToken first = parser.nextToken();
+            if (first == null) return null;
+            if (first != JsonToken.START_ARRAY) {
+                throw new IOException("Error: paths must be a JSON array");
+            }
+            started = true;
+        }
+
+        while (true) {
+            JsonToken t = parser.nextToken();
+            if (t == null || t == JsonToken.END_ARRAY) return null;
+
+            double[] point = switch (t) {
+                case START_OBJECT -> readObject();
+                case START_ARRAY -> readArray();
+                default -> null;
+            };
+            if (point != null) return point;
+        }
+    }
+
+    private double[] readObject() throws IOException {
+        double lat = Double.NaN, lng = Double.NaN, time = Double.NaN;
+        JsonToken t;
+        while ((t = parser.nextToken()) == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            JsonToken v = parser.nextToken();
+            if (v != null && v.isNumeric()) {
+                switch (name) {
+                    case "lat", "latitude" -> lat = parser.getDoubleValue();
+                    case "lng", "lon", "longitude" -> lng = parser.getDoubleValue();
+                    case "t", "time", "timestamp" -> time = parser.getDoubleValue();
+                    default -> { }
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        if (t == null) throw new IOException("Error: truncated paths");
+        return Double.isNaN(lat) || Double.isNaN(lng) ? null : new double[]{ lat, lng, normalizeTime(time) };
+    }
+
+    private double[] readArray() throws IOException {
+        double[] vals = new double[3];
+        int n = 0;
+        JsonToken t;
+        while ((t = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (t == null) throw new IOException("Error: truncated paths");
+            if (t.isNumeric() && n < 3) vals[n++] = parser.getDoubleValue();
+            else parser.skipChildren();
+        }
+        return n < 2 ? null : new double[]{ vals[0], vals[1], normalizeTime(n >= 3 ? vals[2] : Double.NaN) };
+    }
+
+    private static double normalizeTime(double time) {
+        if (Double.isNaN(time)) return time;
+        return time < 1e11 ? time * 1000 : time;
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+}
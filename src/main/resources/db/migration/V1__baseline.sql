@@ -0,0 +1,56 @@
+-- 기준 스키마(매퍼 기준으로 정리)
+-- 기존 DB는 baseline-on-migrate로 V1을 건너뛰고 V2부터 적용
+
+create table if not exists model_tb (
+    id              bigint          not null auto_increment,
+    model_number    varchar(100)    not null,
+    volume          double          not null default 0,
+    register_date   datetime        not null default current_timestamp,
+    update_date     datetime        not null default current_timestamp,
+    primary key (id)
+);
+
+create table if not exists user_tb (
+    id              bigint          not null auto_increment,
+    user_code       varchar(100)    not null,
+    user_name       varchar(100)    not null,
+    model_id        bigint          not null,
+    lat             double          not null default 0,
+    lng             double          not null default 0,
+    register_date   datetime        not null default current_timestamp,
+    update_date     datetime        not null default current_timestamp,
+    primary key (id)
+);
+
+create table if not exists cargo_tb (
+    id              bigint          not null auto_increment,
+    cargo_name      varchar(100)    not null,
+    lat             double          not null,
+    lng             double          not null,
+    register_date   datetime        not null default current_timestamp,
+    update_date     datetime        not null default current_timestamp,
+    primary key (id)
+);
+
+create table if not exists product_tb (
+    id              bigint          not null auto_increment,
+    product_name    varchar(100)    not null,
+    volume          double          not null default 0,
+    register_date   datetime        not null default current_timestamp,
+    update_date     datetime        not null default current_timestamp,
+    primary key (id)
+);
+
+-- status: 0 취소, 1 진행 중, 2 완료
+create table if not exists job_tb (
+    id              bigint          not null auto_increment,
+    user_id         bigint          not null,
+    cargo_id        bigint          not null,
+    product_id      bigint          not null,
+    product_count   int             not null,
+    paths           longtext        not null,
+    status          tinyint         not null default 1,
+    start_date      datetime        not null default current_timestamp,
+    end_date        datetime        null,
+    primary key (id)
+);
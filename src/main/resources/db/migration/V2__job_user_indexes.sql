@@ -0,0 +1,12 @@
+-- findByUserId: user_id = ? and status = 1 order by id desc limit 1
+create index idx_job_user_status_id on job_tb (user_id, status, id);
+
+-- findByCargoIdAndProductId(cargo_id, cargo_id + product_id), findTop3Cargos(group by cargo_id)
+create index idx_job_cargo_product on job_tb (cargo_id, product_id);
+
+-- findRunningJobs: status = 1
+create index idx_job_status on job_tb (status);
+
+-- findByUserCode/existsByUserCode/update, findByUserName(가입 중복 검사)
+alter table user_tb add constraint uk_user_code unique (user_code);
+alter table user_tb add constraint uk_user_name unique (user_name);
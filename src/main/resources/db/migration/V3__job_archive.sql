@@ -0,0 +1,19 @@
+-- 완료/취소 후 보존 기간이 지난 작업 보관(JobArchiveService가 배치 이동)
+create table if not exists job_archive_tb (
+    id              bigint          not null,
+    user_id         bigint          not null,
+    cargo_id        bigint          not null,
+    product_id      bigint          not null,
+    product_count   int             not null,
+    paths           longtext        not null,
+    status          tinyint         not null,
+    start_date      datetime        not null,
+    end_date        datetime        null,
+    archived_date   datetime        not null default current_timestamp,
+    primary key (id),
+    index idx_job_archive_cargo_product (cargo_id, product_id),
+    index idx_job_archive_start_date (start_date)
+);
+
+-- 이동 대상 선별: status in (0, 2) and end_date < ?
+create index idx_job_status_end_date on job_tb (status, end_date);
@@ -0,0 +1,81 @@
+-- 일별 집계(화물지/상품/사용자)
+-- - registered: 해당 일자에 등록된 작업 수(start_date 기준)
+-- - completed/shipped_count: 해당 일자에 완료된 작업 수/상품 수량(end_date 기준)
+-- - canceled: 해당 일자에 취소된 작업 수(end_date 기준)
+-- 작업 등록/완료/취소 시 같은 트랜잭션에서 증분 갱신(StatMapper.rollup*), 재계산은 /api/v1/stats/backfill
+
+create table if not exists cargo_daily_tb (
+    stat_date       date            not null,
+    cargo_id        bigint          not null,
+    registered      int             not null default 0,
+    completed       int             not null default 0,
+    canceled        int             not null default 0,
+    shipped_count   bigint          not null default 0,
+    primary key (stat_date, cargo_id),
+    index idx_cargo_daily_cargo (cargo_id, stat_date)
+);
+
+create table if not exists product_daily_tb (
+    stat_date       date            not null,
+    product_id      bigint          not null,
+    registered      int             not null default 0,
+    completed       int             not null default 0,
+    canceled        int             not null default 0,
+    shipped_count   bigint          not null default 0,
+    primary key (stat_date, product_id),
+    index idx_product_daily_product (product_id, stat_date)
+);
+
+create table if not exists user_daily_tb (
+    stat_date       date            not null,
+    user_id         bigint          not null,
+    registered      int             not null default 0,
+    completed       int             not null default 0,
+    canceled        int             not null default 0,
+    shipped_count   bigint          not null default 0,
+    primary key (stat_date, user_id),
+    index idx_user_daily_user (user_id, stat_date)
+);
+
+-- 백필 구간 조회(start_date), 이력 기간 조회
+create index idx_job_start_date on job_tb (start_date);
+
+-- 기존 작업으로 초기 집계(job_tb + job_archive_tb)
+insert into cargo_daily_tb (stat_date, cargo_id, registered, completed, canceled, shipped_count)
+select stat_date, cargo_id, sum(registered), sum(completed), sum(canceled), sum(shipped_count)
+from (
+    select date(start_date) as stat_date, cargo_id, 1 as registered, 0 as completed, 0 as canceled, 0 as shipped_count from job_tb
+    union all
+    select date(start_date), cargo_id, 1, 0, 0, 0 from job_archive_tb
+    union all
+    select date(end_date), cargo_id, 0, if(status = 2, 1, 0), if(status = 0, 1, 0), if(status = 2, product_count, 0) from job_tb where status in (0, 2)
+    union all
+    select date(end_date), cargo_id, 0, if(status = 2, 1, 0), if(status = 0, 1, 0), if(status = 2, product_count, 0) from job_archive_tb where status in (0, 2)
+) t
+group by stat_date, cargo_id;
+
+insert into product_daily_tb (stat_date, product_id, registered, completed, canceled, shipped_count)
+select stat_date, product_id, sum(registered), sum(completed), sum(canceled), sum(shipped_count)
+from (
+    select date(start_date) as stat_date, product_id, 1 as registered, 0 as completed, 0 as canceled, 0 as shipped_count from job_tb
+    union all
+    select date(start_date), product_id, 1, 0, 0, 0 from job_archive_tb
+    union all
+    select date(end_date), product_id, 0, if(status = 2, 1, 0), if(status = 0, 1, 0), if(status = 2, product_count, 0) from job_tb where status in (0, 2)
+    union all
+    select date(end_date), product_id, 0, if(status = 2, 1, 0), if(status = 0, 1, 0), if(status = 2, product_count, 0) from job_archive_tb where status in (0, 2)
+) t
+group by stat_date, product_id;
+
+insert into user_daily_tb (stat_date, user_id, registered, completed, canceled, shipped_count)
+select stat_date, user_id, sum(registered), sum(completed), sum(canceled), sum(shipped_count)
+from (
+    select date(start_date) as stat_date, user_id, 1 as registered, 0 as completed, 0 as canceled, 0 as shipped_count from job_tb
+    union all
+    select date(start_date), user_id, 1, 0, 0, 0 from job_archive_tb
+    union all
+    select date(end_date), user_id, 0, if(status = 2, 1, 0), if(status = 0, 1, 0), if(status = 2, product_count, 0) from job_tb where status in (0, 2)
+    union all
+    select date(end_date), user_id, 0, if(status = 2, 1, 0), if(status = 0, 1, 0), if(status = 2, product_count, 0) from job_archive_tb where status in (0, 2)
+) t
+group by stat_date, user_id;
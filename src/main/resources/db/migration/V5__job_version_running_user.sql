@@ -0,0 +1,64 @@
+-- 작업 상태 전이를 조건부 + 버전 검사 update로 처리(낙관적 동시성)
+-- - version: 변경마다 +1, 요청에 version이 있으면 일치할 때만 반영
+alter table job_tb add column version int not null default 0;
+
+-- 기존 데이터 정리: 사용자별 진행 중 작업이 여러 건이면 최신 1건만 남기고 취소
+-- - 취소 대상은 job_running_dedup_tb에 기록(감사/복구용): 취소한 작업, 남긴 작업, 취소 시각
+-- - 일별 집계(V4)도 같은 시각 기준으로 canceled +1 > 집계와 job_tb가 계속 일치
+create table if not exists job_running_dedup_tb (
+    job_id          bigint          not null,
+    user_id         bigint          not null,
+    kept_job_id     bigint          not null,
+    canceled_at     datetime        not null default current_timestamp,
+    primary key (job_id)
+);
+
+insert into job_running_dedup_tb (job_id, user_id, kept_job_id)
+select
+    j.id,
+    j.user_id,
+    d.keep_id
+from
+    job_tb j
+    join (
+        select user_id, max(id) as keep_id
+        from job_tb
+        where status = 1
+        group by user_id
+        having count(*) > 1
+    ) d on(j.user_id = d.user_id)
+where
+    j.status = 1
+    and j.id < d.keep_id;
+
+update job_tb j
+    join job_running_dedup_tb x on(j.id = x.job_id)
+set
+    j.status = 0,
+    j.end_date = x.canceled_at
+where
+    j.status = 1;
+
+insert into cargo_daily_tb (stat_date, cargo_id, canceled)
+select date(x.canceled_at), j.cargo_id, count(*)
+from job_running_dedup_tb x join job_tb j on(j.id = x.job_id)
+group by date(x.canceled_at), j.cargo_id
+on duplicate key update canceled = canceled + values(canceled);
+
+insert into product_daily_tb (stat_date, product_id, canceled)
+select date(x.canceled_at), j.product_id, count(*)
+from job_running_dedup_tb x join job_tb j on(j.id = x.job_id)
+group by date(x.canceled_at), j.product_id
+on duplicate key update canceled = canceled + values(canceled);
+
+insert into user_daily_tb (stat_date, user_id, canceled)
+select date(x.canceled_at), j.user_id, count(*)
+from job_running_dedup_tb x join job_tb j on(j.id = x.job_id)
+group by date(x.canceled_at), j.user_id
+on duplicate key update canceled = canceled + values(canceled);
+
+-- 사용자당 진행 중 작업 최대 1건(DB가 보장)
+-- - 진행 중일 때만 user_id, 그 외 null > unique 인덱스는 null 중복을 허용
+alter table job_tb
+    add column running_user_id bigint as (if(status = 1, user_id, null)) virtual,
+    add constraint uk_job_running_user unique (running_user_id);
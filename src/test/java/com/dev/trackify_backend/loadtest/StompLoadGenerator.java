@@ -0,0 +1,272 @@
+package com.dev.trackify_backend.loadtest;
+
+import com.dev.trackify_backend.util.GeoUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.lang.reflect.Type;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/** 역할
+ * 가상 기사 세션 N개를 /ws?userCode=... 로 연결하고 /app/connect, /app/update, /app/ping 을 설정된 주기로 전송
+ * 이동 경로는 데모 샘플과 같은 방위각/속도 모델(GeoUtil.moveFrom) 사용
+ * 수신 세션(/user/queue/events)에서 update 송신 > PRESENCE 수신까지의 지연(ms) 분포(p50/p90/p99/p99.9) 집계
+ *
+ * 실행(로컬 인스턴스 + 로컬 Redis/MySQL 기동 후):
+ * mvn -B -Ploadtest -DskipTests verify -Dload.users=2000 -Dload.durationSec=120
+ *
+ * 설정(System property)
+ * load.ws: ws://localhost:8080/ws / load.http: http://localhost:8080
+ * load.users: 가상 기사 수 / load.receivers: 지연 측정용 수신 세션 수(전원 수신 시 클라이언트가 병목)
+ * load.updateHz: 기사당 초당 update 수 / load.pingSec: ping 주기 / load.durationSec: 측정 시간
+ * load.prefix: userCode 접두사 / load.register: 시작 전 /api/v1/user 로 사용자 등록 여부 / load.modelId
+ * */
+public class StompLoadGenerator {
+
+    private static final int MAX_SAMPLES = 2_000_000;
+
+    private final String wsUrl = System.getProperty("load.ws", "ws://localhost:8080/ws");
+    private final String httpUrl = System.getProperty("load.http", "http://localhost:8080");
+    private final int users = Integer.getInteger("load.users", 1000);
+    private final int receivers = Integer.getInteger("load.receivers", 50);
+    private final double updateHz = Double.parseDouble(System.getProperty("load.updateHz", "1.0"));
+    private final int pingSec = Integer.getInteger("load.pingSec", 10);
+    private final int durationSec = Integer.getInteger("load.durationSec", 60);
+    private final String prefix = System.getProperty("load.prefix", "load");
+    private final boolean register = Boolean.parseBoolean(System.getProperty("load.register", "true"));
+    private final int modelId = Integer.getInteger("load.modelId", 1);
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final ScheduledExecutorService scheduler =
+            Executors.newScheduledThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors()));
+
+    // userCode > 마지막으로 보낸 update(좌표 + 송신 시각)
+    private final Map<String, SentFix> lastSent = new ConcurrentHashMap<>();
+
+    // 지연 샘플(ms, 마이크로초 단위 정밀도 유지를 위해 us로 저장)
+    private final long[] latencyUs = new long[MAX_SAMPLES];
+    private final AtomicInteger sampleCount = new AtomicInteger();
+
+    private final AtomicLong updatesSent = new AtomicLong();
+    private final AtomicLong eventsReceived = new AtomicLong();
+    private final AtomicLong eventsUnmatched = new AtomicLong();
+    private final AtomicLong sendErrors = new AtomicLong();
+
+    private record SentFix(double lat, double lng, long sentNanos) {}
+
+    // 가상 기사 1명의 이동 상태(데모 샘플과 같은 모델: 속도 + 방위각, 매 틱 방위각 변화)
+    private static final class Driver {
+        final String userCode;
+        double lat;
+        double lng;
+        double bearing;
+        final double speedMps;
+        long lastPingAt;
+        StompSession session;
+
+        Driver(String userCode, double lat, double lng, double bearing, double speedMps) {
+            this.userCode = userCode;
+            this.lat = lat;
+            this.lng = lng;
+            this.bearing = bearing;
+            this.speedMps = speedMps;
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        new StompLoadGenerator().run();
+    }
+
+    public void run() throws Exception {
+        List<Driver> drivers = createDrivers();
+        if (register) registerUsers(drivers);
+
+        WebSocketStompClient stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        MappingJackson2MessageConverter converter = new MappingJackson2MessageConverter();
+        converter.setObjectMapper(objectMapper);
+        stompClient.setMessageConverter(converter);
+        stompClient.setDefaultHeartbeat(new long[]{0, 0});
+
+        int connected = connectAll(stompClient, drivers);
+        System.out.printf("connected %d/%d sessions%n", connected, drivers.size());
+
+        long periodMicros = (long) (1_000_000 / updateHz);
+        List<ScheduledFuture<?>> tasks = new ArrayList<>();
+        for (Driver d : drivers) {
+            if (d.session == null) continue;
+            long jitter = ThreadLocalRandom.current().nextLong(periodMicros);
+            // 세션 1개에 동시 send가 겹치지 않도록 update/ping을 같은 작업에서 전송
+            tasks.add(scheduler.scheduleAtFixedRate(() -> tick(d, periodMicros / 1_000_000.0), jitter, periodMicros, TimeUnit.MICROSECONDS));
+        }
+
+        long start = System.nanoTime();
+        for (int s = 1; s <= durationSec; s++) {
+            Thread.sleep(1000);
+            if (s % 10 == 0) {
+                System.out.printf("[%ds] updates=%d events=%d samples=%d%n",
+                        s, updatesSent.get(), eventsReceived.get(), sampleCount.get());
+            }
+        }
+        double elapsedSec = (System.nanoTime() - start) / 1e9;
+
+        tasks.forEach(t -> t.cancel(false));
+        for (Driver d : drivers) {
+            if (d.session == null) continue;
+            try {
+                d.session.send("/app/disconnect", d.userCode);
+                d.session.disconnect();
+            } catch (Exception ignore) {
+                // 종료 중 오류는 결과에 영향 없음
+            }
+        }
+        scheduler.shutdownNow();
+        stompClient.stop();
+
+        report(elapsedSec);
+    }
+
+    private List<Driver> createDrivers() {
+        ThreadLocalRandom r = ThreadLocalRandom.current();
+        List<Driver> drivers = new ArrayList<>(users);
+        for (int i = 0; i < users; i++) {
+            // 수도권 ~ 영남권 범위에 분산
+            double lat = 35.0 + r.nextDouble() * 2.6;
+            double lng = 126.6 + r.nextDouble() * 2.6;
+            drivers.add(new Driver(prefix + i, lat, lng, r.nextDouble(360.0), 6.0 + r.nextDouble() * 6.0));
+        }
+        return drivers;
+    }
+
+    // 테스트용 사용자 등록(이미 있으면 400 응답 > 무시)
+    private void registerUsers(List<Driver> drivers) throws Exception {
+        HttpClient http = HttpClient.newHttpClient();
+        for (Driver d : drivers) {
+            String body = objectMapper.writeValueAsString(Map.of(
+                    "userCode", d.userCode,
+                    "userName", d.userCode,
+                    "modelId", modelId,
+                    "lat", d.lat,
+                    "lng", d.lng));
+            HttpRequest req = HttpRequest.newBuilder(URI.create(httpUrl + "/api/v1/user"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+            http.send(req, HttpResponse.BodyHandlers.discarding());
+        }
+    }
+
+    private int connectAll(WebSocketStompClient stompClient, List<Driver> drivers) {
+        int connected = 0;
+        for (int i = 0; i < drivers.size(); i++) {
+            Driver d = drivers.get(i);
+            try {
+                StompSession session = stompClient
+                        .connectAsync(wsUrl + "?userCode=" + d.userCode, new StompSessionHandlerAdapter() {})
+                        .get(10, TimeUnit.SECONDS);
+                if (i < receivers) {
+                    session.subscribe("/user/queue/events", eventHandler());
+                }
+                session.send("/app/connect", Map.of("userCode", d.userCode, "lat", d.lat, "lng", d.lng));
+                d.session = session;
+                connected++;
+            } catch (Exception e) {
+                System.err.printf("connect failed: %s (%s)%n", d.userCode, e.getMessage());
+            }
+        }
+        return connected;
+    }
+
+    private void tick(Driver d, double dtSec) {
+        long nowMs = System.currentTimeMillis();
+        if (nowMs - d.lastPingAt >= pingSec * 1000L) {
+            d.lastPingAt = nowMs;
+            ping(d);
+        }
+        try {
+            double[] next = GeoUtil.moveFrom(d.lat, d.lng, d.speedMps * dtSec, d.bearing);
+            d.lat = next[0];
+            d.lng = next[1];
+            d.bearing = (d.bearing + ThreadLocalRandom.current().nextDouble(-5.0, 5.0) + 360.0) % 360.0;
+
+            lastSent.put(d.userCode, new SentFix(d.lat, d.lng, System.nanoTime()));
+            d.session.send("/app/update", Map.of("userCode", d.userCode, "lat", d.lat, "lng", d.lng));
+            updatesSent.incrementAndGet();
+        } catch (Exception e) {
+            sendErrors.incrementAndGet();
+        }
+    }
+
+    private void ping(Driver d) {
+        try {
+            d.session.send("/app/ping", Map.of("userCode", d.userCode, "clientTime", System.currentTimeMillis()));
+        } catch (Exception e) {
+            sendErrors.incrementAndGet();
+        }
+    }
+
+    // PRESENCE 수신 > 같은 좌표로 보낸 update가 있으면 지연 기록
+    private StompFrameHandler eventHandler() {
+        return new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return Map.class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                long now = System.nanoTime();
+                eventsReceived.incrementAndGet();
+
+                Map<?, ?> event = (Map<?, ?>) payload;
+                if (!"PRESENCE".equals(event.get("type"))) return;
+
+                SentFix sent = lastSent.get(String.valueOf(event.get("userCode")));
+                if (sent == null
+                        || !(event.get("lat") instanceof Number lat) || lat.doubleValue() != sent.lat()
+                        || !(event.get("lng") instanceof Number lng) || lng.doubleValue() != sent.lng()) {
+                    eventsUnmatched.incrementAndGet();
+                    return;
+                }
+
+                int idx = sampleCount.getAndIncrement();
+                if (idx < MAX_SAMPLES) {
+                    latencyUs[idx] = (now - sent.sentNanos()) / 1_000;
+                }
+            }
+        };
+    }
+
+    private void report(double elapsedSec) {
+        int n = Math.min(sampleCount.get(), MAX_SAMPLES);
+        long[] sorted = Arrays.copyOf(latencyUs, n);
+        Arrays.sort(sorted);
+
+        System.out.println("==== STOMP load test ====");
+        System.out.printf("sessions=%d receivers=%d updateHz=%.2f duration=%.1fs%n", users, receivers, updateHz, elapsedSec);
+        System.out.printf("updates sent=%d (%.0f/s) errors=%d%n", updatesSent.get(), updatesSent.get() / elapsedSec, sendErrors.get());
+        System.out.printf("events received=%d (%.0f/s) unmatched=%d samples=%d%n",
+                eventsReceived.get(), eventsReceived.get() / elapsedSec, eventsUnmatched.get(), n);
+        if (n == 0) return;
+        System.out.printf("latency ms: p50=%.2f p90=%.2f p99=%.2f p99.9=%.2f max=%.2f%n",
+                percentile(sorted, 0.50), percentile(sorted, 0.90), percentile(sorted, 0.99),
+                percentile(sorted, 0.999), sorted[n - 1] / 1000.0);
+    }
+
+    private static double percentile(long[] sorted, double q) {
+        int idx = (int) Math.min(sorted.length - 1, Math.ceil(q * sorted.length) - 1);
+        return sorted[Math.max(0, idx)] / 1000.0;
+    }
+}
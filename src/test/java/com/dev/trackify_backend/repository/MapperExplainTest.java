@@ -0,0 +1,155 @@
+package com.dev.trackify_backend.repository;
+
+import org.apache.ibatis.builder.xml.XMLMapperBuilder;
+import org.apache.ibatis.datasource.unpooled.UnpooledDataSource;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import javax.sql.DataSource;
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/** 역할
+ * 매퍼 XML의 조회/수정 문장마다 EXPLAIN을 실행해서 인덱스 없는 전체 스캔이 있으면 실패
+ * - 판정: type = ALL 이면서 possible_keys 없음(사용할 수 있는 인덱스 자체가 없음)
+ *   작은 테이블에서 옵티마이저가 인덱스 대신 ALL을 고르는 경우는 통과
+ * - 카탈로그 전체 목록(cargoList 등)은 의도된 전체 조회라 제외
+ * 실행: 로컬 MySQL 필요, 없으면 건너뜀
+ *   mvn test -Dtrackify.explain.url=jdbc:mysql://localhost:3306/trackify_explain -Dtrackify.explain.username=root -Dtrackify.explain.password=...
+ * 테스트 시작 시 Flyway 마이그레이션을 적용 > 마이그레이션과 매퍼가 함께 검증됨
+ * */
+class MapperExplainTest {
+
+    // 의도된 전체 조회(전체 목록, 일별 집계 합산)
+    private static final Set<String> FULL_SCAN_ALLOWED = Set.of(
+            "CargoMapper.cargoList",
+            "ProductMapper.productList",
+            "ModelMapper.modelList",
+            "JobMapper.findTop3Cargos");
+
+    private static DataSource dataSource;
+    private static Configuration configuration;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        String url = setting("trackify.explain.url", "TRACKIFY_EXPLAIN_URL");
+        assumeTrue(url != null && !url.isBlank(), "trackify.explain.url not set, skipping EXPLAIN checks");
+
+        String username = setting("trackify.explain.username", "TRACKIFY_EXPLAIN_USERNAME");
+        String password = setting("trackify.explain.password", "TRACKIFY_EXPLAIN_PASSWORD");
+        dataSource = new UnpooledDataSource("com.mysql.cj.jdbc.Driver", url, username, password);
+
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration")
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .load()
+                .migrate();
+
+        configuration = new Configuration(new Environment("explain", new JdbcTransactionFactory(), dataSource));
+        for (Resource r : new PathMatchingResourcePatternResolver().getResources("classpath*:mappers/**/*.xml")) {
+            try (InputStream in = r.getInputStream()) {
+                new XMLMapperBuilder(in, configuration, r.getURL().toString(), configuration.getSqlFragments()).parse();
+            }
+        }
+    }
+
+    @TestFactory
+    Collection<DynamicTest> noFullTableScanWithoutIndex() {
+        List<DynamicTest> tests = new ArrayList<>();
+        for (String name : new TreeSet<>(configuration.getMappedStatementNames())) {
+            if (!name.contains(".")) continue; // 짧은 이름 별칭은 건너뜀(전체 이름만)
+            MappedStatement ms = configuration.getMappedStatement(name);
+            String id = shortId(name);
+            if (ms.getSqlCommandType() != SqlCommandType.SELECT
+                    && ms.getSqlCommandType() != SqlCommandType.UPDATE
+                    && ms.getSqlCommandType() != SqlCommandType.DELETE) continue;
+            if (FULL_SCAN_ALLOWED.contains(id)) continue;
+
+            tests.add(DynamicTest.dynamicTest(id, () -> explain(id, ms)));
+        }
+        return tests;
+    }
+
+    private void explain(String id, MappedStatement ms) throws Exception {
+        Map<String, Object> params = sampleParameters();
+        BoundSql boundSql = ms.getBoundSql(params);
+        MetaObject meta = configuration.newMetaObject(params);
+
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement ps = conn.prepareStatement("explain " + boundSql.getSql())) {
+            List<ParameterMapping> mappings = boundSql.getParameterMappings();
+            for (int i = 0; i < mappings.size(); i++) {
+                String property = mappings.get(i).getProperty();
+                Object value = boundSql.hasAdditionalParameter(property)
+                        ? boundSql.getAdditionalParameter(property)
+                        : meta.getValue(property);
+                ps.setObject(i + 1, value);
+            }
+
+            List<String> problems = new ArrayList<>();
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    String type = rs.getString("type");
+                    String possibleKeys = rs.getString("possible_keys");
+                    if ("ALL".equalsIgnoreCase(type) && (possibleKeys == null || possibleKeys.isBlank())) {
+                        problems.add(rs.getString("table"));
+                    }
+                }
+            }
+            if (!problems.isEmpty()) {
+                fail(id + ": full table scan without usable index on " + problems + "\n" + boundSql.getSql());
+            }
+        }
+    }
+
+    // 매퍼 파라미터 표본값(이름으로 조회, 없는 이름은 1)
+    private static Map<String, Object> sampleParameters() {
+        Map<String, Object> params = new HashMap<>() {
+            @Override
+            public Object get(Object key) {
+                return containsKey(key) ? super.get(key) : 1L;
+            }
+        };
+        params.put("userCode", "explain-user");
+        params.put("userName", "explain-user");
+        params.put("paths", "[]");
+        params.put("lat", 37.5);
+        params.put("lng", 127.0);
+        params.put("ids", List.of(1L, 2L));
+        params.put("userIds", List.of(1L, 2L));
+        params.put("userCodes", List.of("explain-user", "explain-user-2"));
+        params.put("before", LocalDateTime.now());
+        return params;
+    }
+
+    private static String shortId(String id) {
+        String[] parts = id.split("\\.");
+        return parts.length >= 2 ? parts[parts.length - 2] + "." + parts[parts.length - 1] : id;
+    }
+
+    private static String setting(String property, String env) {
+        String value = System.getProperty(property);
+        return value != null ? value : System.getenv(env);
+    }
+}
@@ -0,0 +1,22 @@
+package com.dev.trackify_backend.status;
+
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class HybridPresenceStoreTest extends PresenceStoreContractTest {
+
+    private LettuceConnectionFactory factory;
+
+    @Override
+    protected PresenceStore createStore() {
+        factory = RedisTestSupport.connect();
+        HybridPresenceStore hybrid = RedisTestSupport.wire(new HybridPresenceStore(), factory);
+        ReflectionTestUtils.setField(hybrid, "ttlMs", 1000L);
+        return hybrid;
+    }
+
+    @Override
+    protected void closeStore() {
+        if (factory != null) factory.destroy();
+    }
+}
@@ -0,0 +1,9 @@
+package com.dev.trackify_backend.status;
+
+class InMemoryPresenceStoreTest extends PresenceStoreContractTest {
+
+    @Override
+    protected PresenceStore createStore() {
+        return new InMemoryPresenceStore();
+    }
+}
@@ -0,0 +1,227 @@
+package com.dev.trackify_backend.status;
+
+import com.dev.trackify_backend.dto.response.stomp.RespStompUserDto;
+import com.dev.trackify_backend.metrics.PresenceMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/** 역할
+ * PresenceStatus.updateLocationAsync의 사용자별 병합, 전체 동시 실행 상한, 대기열 소진, 퇴장 처리
+ * - 저장소 스텁의 getAsync/saveAsync/deleteAsync future를 테스트가 직접 완료 > 실행 순서를 결정적으로 확인
+ * */
+class PresenceStatusAsyncTest {
+
+    private ManualAsyncStore store;
+    private PresenceBroadcaster broadcaster;
+    private SimpleMeterRegistry registry;
+    private PresenceStatus status;
+
+    @BeforeEach
+    void setUp() {
+        store = new ManualAsyncStore();
+        broadcaster = mock(PresenceBroadcaster.class);
+        registry = new SimpleMeterRegistry();
+
+        status = new PresenceStatus();
+        ReflectionTestUtils.setField(status, "store", store);
+        ReflectionTestUtils.setField(status, "broadcaster", broadcaster);
+        ReflectionTestUtils.setField(status, "metrics", new PresenceMetrics(registry));
+        ReflectionTestUtils.setField(status, "changeLog", new PresenceChangeLog(64));
+        ReflectionTestUtils.setField(status, "publisher", (ApplicationEventPublisher) e -> {});
+        status.setAsyncMaxInFlight(2);
+    }
+
+    @Test
+    void updatesDuringInFlightCollapseToLatest() {
+        store.seed("u1");
+
+        CompletableFuture<PresenceStatus.Presence> first = status.updateLocationAsync("u1", 1, 1);
+        CompletableFuture<PresenceStatus.Presence> second = status.updateLocationAsync("u1", 2, 2);
+        CompletableFuture<PresenceStatus.Presence> third = status.updateLocationAsync("u1", 3, 3);
+
+        // 실행 중 1건 + 대기 1건(덮어쓴 요청은 같은 future)
+        assertSame(second, third);
+        assertNotSame(first, second);
+        assertEquals(1, store.ops.size());
+        assertEquals(1.0, registry.counter("trackify.presence.location.coalesced").count());
+
+        store.completeNext(); // get
+        store.completeNext(); // save(1, 1)
+        assertTrue(first.isDone());
+        assertEquals(1.0, first.join().getLat());
+        assertFalse(second.isDone());
+
+        // 다음 실행은 마지막 좌표만 반영
+        store.completeNext(); // get
+        Op save = store.ops.get(0);
+        assertEquals("save", save.kind());
+        assertEquals(3.0, save.value().getLat());
+        store.completeNext();
+
+        assertTrue(second.isDone());
+        assertEquals(3.0, second.join().getLat());
+        assertEquals(3.0, store.get("u1").getLat());
+        assertTrue(store.ops.isEmpty());
+    }
+
+    @Test
+    void inFlightIsBoundedAndQueueDrains() {
+        List<CompletableFuture<PresenceStatus.Presence>> results = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            store.seed("u" + i);
+            results.add(status.updateLocationAsync("u" + i, 37.0 + i, 127.0));
+        }
+
+        // 슬롯 2개 > 나머지 3명은 대기
+        assertEquals(List.of("u0", "u1"), store.ops.stream().map(Op::userCode).toList());
+
+        int maxInFlight = 0;
+        while (!store.ops.isEmpty()) {
+            long started = store.gets;
+            long done = results.stream().filter(CompletableFuture::isDone).count();
+            maxInFlight = (int) Math.max(maxInFlight, started - done);
+            store.completeNext();
+        }
+
+        assertEquals(2, maxInFlight);
+        assertEquals(5, store.gets);
+        for (int i = 0; i < 5; i++) {
+            assertTrue(results.get(i).isDone());
+            assertEquals(37.0 + i, results.get(i).join().getLat());
+        }
+    }
+
+    @Test
+    void leaveDropsPendingAndSuppressesInFlightSave() {
+        store.seed("u1");
+
+        CompletableFuture<PresenceStatus.Presence> inFlight = status.updateLocationAsync("u1", 1, 1);
+        store.completeNext(); // get > save 대기
+        CompletableFuture<PresenceStatus.Presence> pending = status.updateLocationAsync("u1", 2, 2);
+
+        status.disconnect("u1", null, null);
+        assertTrue(pending.isDone());
+        assertNull(pending.join());
+
+        // 퇴장 뒤에 끝난 저장 > 방송하지 않고 다시 삭제
+        store.completeNext(); // save
+        assertEquals("delete", store.ops.get(0).kind());
+        assertFalse(inFlight.isDone());
+        store.completeNext();
+        assertNull(inFlight.getNow(null));
+        assertTrue(inFlight.isDone());
+
+        assertNull(store.get("u1"));
+        assertTrue(store.ops.isEmpty());
+        verify(broadcaster, never()).sendToOthers(eq("u1"), any(RespStompUserDto.class));
+
+        // 퇴장 후 새 갱신은 새 상태로 시작(저장소에 없으므로 null)
+        CompletableFuture<PresenceStatus.Presence> after = status.updateLocationAsync("u1", 3, 3);
+        store.completeNext();
+        assertTrue(after.isDone());
+        assertNull(after.getNow(null));
+    }
+
+    private record Op(String kind, String userCode, PresenceStatus.Presence value, CompletableFuture<Object> future) {}
+
+    // 비동기 연산을 바로 완료하지 않는 저장소 스텁(ops 순서대로 completeNext로 완료)
+    private static final class ManualAsyncStore implements PresenceStore {
+        private final Map<String, PresenceStatus.Presence> data = new ConcurrentHashMap<>();
+        private final List<Op> ops = new ArrayList<>();
+        private long gets;
+
+        void seed(String userCode) {
+            save(PresenceStatus.Presence.builder()
+                    .userCode(userCode)
+                    .userName(userCode)
+                    .lastMsgAt(System.currentTimeMillis())
+                    .build());
+        }
+
+        void completeNext() {
+            Op op = ops.remove(0);
+            switch (op.kind()) {
+                case "get" -> op.future().complete(get(op.userCode()));
+                case "save" -> {
+                    save(op.value());
+                    op.future().complete(null);
+                }
+                default -> {
+                    delete(op.userCode());
+                    op.future().complete(null);
+                }
+            }
+        }
+
+        @Override
+        public PresenceStatus.Presence get(String userCode) {
+            PresenceStatus.Presence p = data.get(userCode);
+            return p == null ? null : copy(p);
+        }
+
+        @Override
+        public void save(PresenceStatus.Presence p) {
+            data.put(p.getUserCode(), copy(p));
+        }
+
+        @Override
+        public void delete(String userCode) {
+            data.remove(userCode);
+        }
+
+        @Override
+        public List<PresenceStatus.Presence> findAll() {
+            return data.values().stream().map(ManualAsyncStore::copy).toList();
+        }
+
+        private static PresenceStatus.Presence copy(PresenceStatus.Presence p) {
+            return PresenceSlot.of(p).toPresence();
+        }
+
+        @Override
+        public boolean isAsync() {
+            return true;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public CompletableFuture<PresenceStatus.Presence> getAsync(String userCode) {
+            gets++;
+            CompletableFuture<Object> f = new CompletableFuture<>();
+            ops.add(new Op("get", userCode, null, f));
+            return (CompletableFuture<PresenceStatus.Presence>) (CompletableFuture<?>) f;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public CompletableFuture<Void> saveAsync(PresenceStatus.Presence p) {
+            CompletableFuture<Object> f = new CompletableFuture<>();
+            ops.add(new Op("save", p.getUserCode(), copy(p), f));
+            return (CompletableFuture<Void>) (CompletableFuture<?>) f;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public CompletableFuture<Void> deleteAsync(String userCode) {
+            CompletableFuture<Object> f = new CompletableFuture<>();
+            ops.add(new Op("delete", userCode, null, f));
+            return (CompletableFuture<Void>) (CompletableFuture<?>) f;
+        }
+    }
+}
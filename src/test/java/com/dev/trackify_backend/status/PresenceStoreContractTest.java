@@ -0,0 +1,186 @@
+package com.dev.trackify_backend.status;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** 역할
+ * PresenceStore 구현 공통 규약(구현마다 하위 클래스 1개)
+ * - 조회/저장/덮어쓰기/삭제/전체 조회, 사본 규칙, 비동기 연산 일관성, 동시 저장
+ * - 키는 테스트마다 고유 접두사 사용 > 공유 Redis에 다른 데이터가 있어도 섞이지 않음, 끝나면 삭제
+ * */
+abstract class PresenceStoreContractTest {
+
+    protected PresenceStore store;
+    private String prefix;
+    private final List<String> written = new ArrayList<>();
+
+    // 구현별 저장소 생성(사용할 수 없으면 Assumptions로 건너뜀)
+    protected abstract PresenceStore createStore();
+
+    // 구현별 정리(연결 종료 등)
+    protected void closeStore() {}
+
+    @BeforeEach
+    void setUp() {
+        store = createStore();
+        prefix = "contract-" + UUID.randomUUID().toString().substring(0, 8) + "-";
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (store != null) {
+            written.forEach(store::delete);
+        }
+        closeStore();
+    }
+
+    private String user(int i) {
+        String userCode = prefix + i;
+        written.add(userCode);
+        return userCode;
+    }
+
+    private static PresenceStatus.Presence presence(String userCode, double lat, double lng) {
+        return PresenceStatus.Presence.builder()
+                .userCode(userCode)
+                .userName("name-" + userCode)
+                .lat(lat)
+                .lng(lng)
+                .working(true)
+                .lastMsgAt(1_700_000_000_000L)
+                .lastPingRtt(15)
+                .lastBroadcastAt(1_700_000_000_500L)
+                .lastLat(lat)
+                .lastLng(lng)
+                .build();
+    }
+
+    private List<PresenceStatus.Presence> findMine() {
+        return store.findAll().stream().filter(p -> p.getUserCode().startsWith(prefix)).toList();
+    }
+
+    @Test
+    void getMissingReturnsNull() {
+        assertNull(store.get(user(0)));
+    }
+
+    @Test
+    void saveThenGetReturnsEqualValue() {
+        PresenceStatus.Presence p = presence(user(0), 37.5665, 126.978);
+        store.save(p);
+        assertEquals(p, store.get(p.getUserCode()));
+    }
+
+    @Test
+    void nullLastPositionRoundTrips() {
+        PresenceStatus.Presence p = presence(user(0), 37.5, 127.0);
+        p.setLastLat(null);
+        p.setLastLng(null);
+        store.save(p);
+
+        PresenceStatus.Presence got = store.get(p.getUserCode());
+        assertNull(got.getLastLat());
+        assertNull(got.getLastLng());
+    }
+
+    @Test
+    void saveOverwrites() {
+        String userCode = user(0);
+        store.save(presence(userCode, 37.0, 127.0));
+        store.save(presence(userCode, 35.1, 129.0));
+
+        PresenceStatus.Presence got = store.get(userCode);
+        assertEquals(35.1, got.getLat());
+        assertEquals(129.0, got.getLng());
+    }
+
+    @Test
+    void deleteRemoves() {
+        String userCode = user(0);
+        store.save(presence(userCode, 37.0, 127.0));
+        store.delete(userCode);
+
+        assertNull(store.get(userCode));
+        assertTrue(findMine().isEmpty());
+    }
+
+    @Test
+    void deleteMissingIsNoop() {
+        assertDoesNotThrow(() -> store.delete(user(0)));
+    }
+
+    @Test
+    void findAllReturnsSavedAndSkipsDeleted() {
+        for (int i = 0; i < 5; i++) {
+            store.save(presence(user(i), 37.0 + i, 127.0));
+        }
+        store.delete(prefix + 2);
+
+        List<String> codes = findMine().stream().map(PresenceStatus.Presence::getUserCode).sorted().toList();
+        assertEquals(List.of(prefix + 0, prefix + 1, prefix + 3, prefix + 4), codes);
+    }
+
+    @Test
+    void returnedValueIsACopy() {
+        String userCode = user(0);
+        PresenceStatus.Presence saved = presence(userCode, 37.0, 127.0);
+        store.save(saved);
+
+        // 저장 후 원본 변경 > 저장소에 반영되지 않음
+        saved.setLat(1.0);
+        // 조회 결과 변경 > save 전에는 반영되지 않음
+        store.get(userCode).setLng(2.0);
+
+        PresenceStatus.Presence got = store.get(userCode);
+        assertEquals(37.0, got.getLat());
+        assertEquals(127.0, got.getLng());
+    }
+
+    @Test
+    void asyncOperationsMatchSync() throws Exception {
+        String userCode = user(0);
+        PresenceStatus.Presence p = presence(userCode, 37.0, 127.0);
+
+        store.saveAsync(p).get(5, TimeUnit.SECONDS);
+        assertEquals(p, store.get(userCode));
+        assertEquals(p, store.getAsync(userCode).get(5, TimeUnit.SECONDS));
+
+        store.deleteAsync(userCode).get(5, TimeUnit.SECONDS);
+        assertNull(store.get(userCode));
+        assertNull(store.getAsync(userCode).get(5, TimeUnit.SECONDS));
+        assertNull(store.getAsync(user(1)).get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void concurrentSavesOfDistinctUsersAreAllVisible() throws Exception {
+        int users = 64;
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            for (int i = 0; i < users; i++) {
+                String userCode = user(i);
+                double lat = 37.0 + i * 1e-3;
+                futures.add(CompletableFuture.runAsync(() -> store.save(presence(userCode, lat, 127.0)), pool));
+            }
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(30, TimeUnit.SECONDS);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertEquals(users, findMine().size());
+        for (int i = 0; i < users; i++) {
+            assertEquals(37.0 + i * 1e-3, store.get(prefix + i).getLat());
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.dev.trackify_backend.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// RedisPresenceStore + ReactivePresenceStore(trackify.presence.async=true) > getAsync/saveAsync/deleteAsync가 Lettuce reactive 경로를 사용
+class ReactiveRedisPresenceStoreTest extends PresenceStoreContractTest {
+
+    private LettuceConnectionFactory factory;
+    private ReactivePresenceStore reactive;
+
+    @Override
+    protected PresenceStore createStore() {
+        factory = RedisTestSupport.connect();
+        RedisPresenceStore redis = RedisTestSupport.wire(new RedisPresenceStore(), factory);
+        reactive = RedisTestSupport.wireAsync(redis, factory);
+        return redis;
+    }
+
+    @Override
+    protected void closeStore() {
+        if (reactive != null) reactive.shutdown();
+        if (factory != null) factory.destroy();
+    }
+
+    @Test
+    void asyncOperationsUseReactiveStore() throws Exception {
+        assertTrue(store.isAsync());
+
+        String userCode = "contract-reactive-" + System.nanoTime();
+        PresenceStatus.Presence p = PresenceStatus.Presence.builder()
+                .userCode(userCode)
+                .userName(userCode)
+                .lat(37.5)
+                .lng(127.0)
+                .build();
+        try {
+            // reactive로 쓴 값을 동기(RedisTemplate)로, 동기로 쓴 값을 reactive로 읽음 > 같은 키/직렬화
+            reactive.save(p).get(5, TimeUnit.SECONDS);
+            assertEquals(p, store.get(userCode));
+
+            p.setLat(35.1);
+            store.save(p);
+            assertEquals(35.1, reactive.get(userCode).get(5, TimeUnit.SECONDS).getLat());
+        } finally {
+            store.delete(userCode);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.dev.trackify_backend.status;
+
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+
+class RedisPresenceStoreTest extends PresenceStoreContractTest {
+
+    private LettuceConnectionFactory factory;
+
+    @Override
+    protected PresenceStore createStore() {
+        factory = RedisTestSupport.connect();
+        return RedisTestSupport.wire(new RedisPresenceStore(), factory);
+    }
+
+    @Override
+    protected void closeStore() {
+        if (factory != null) factory.destroy();
+    }
+}
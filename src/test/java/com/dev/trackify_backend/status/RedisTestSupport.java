@@ -0,0 +1,59 @@
+package com.dev.trackify_backend.status;
+
+import com.dev.trackify_backend.config.RedisConfig;
+import com.dev.trackify_backend.metrics.PresenceMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/** 역할
+ * Redis 기반 저장소 테스트 공용 준비
+ * 실행: 로컬 Redis 필요, 연결할 수 없으면 건너뜀
+ *   mvn test -Dtrackify.test.redis.host=localhost -Dtrackify.test.redis.port=6379
+ * */
+final class RedisTestSupport {
+    private RedisTestSupport() {}
+
+    // 연결 가능한 경우에만 factory 반환(PING 실패 시 테스트 건너뜀)
+    static LettuceConnectionFactory connect() {
+        String host = System.getProperty("trackify.test.redis.host", "localhost");
+        int port = Integer.getInteger("trackify.test.redis.port", 6379);
+        LettuceConnectionFactory factory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(host, port));
+        factory.afterPropertiesSet();
+
+        boolean reachable;
+        try (RedisConnection conn = factory.getConnection()) {
+            reachable = conn.ping() != null;
+        } catch (RuntimeException e) {
+            reachable = false;
+        }
+        if (!reachable) {
+            factory.destroy();
+        }
+        assumeTrue(reachable, "Redis not reachable at " + host + ":" + port);
+        return factory;
+    }
+
+    // @Autowired 필드를 직접 채움(스프링 컨텍스트 없이)
+    static <T extends RedisPresenceStore> T wire(T store, LettuceConnectionFactory factory) {
+        ReflectionTestUtils.setField(store, "redisTemplate", new RedisConfig().presenceRedisTemplate(factory));
+        ReflectionTestUtils.setField(store, "metrics", new PresenceMetrics(new SimpleMeterRegistry()));
+        return store;
+    }
+
+    // trackify.presence.async=true 구성: 비동기 연산을 ReactivePresenceStore(Lettuce reactive)로 위임
+    // - 반환한 ReactivePresenceStore는 테스트 후 shutdown
+    static ReactivePresenceStore wireAsync(RedisPresenceStore store, LettuceConnectionFactory factory) {
+        ReactivePresenceStore reactive = new ReactivePresenceStore();
+        ReflectionTestUtils.setField(reactive, "reactiveRedisTemplate", new RedisConfig().presenceReactiveRedisTemplate(factory));
+        ReflectionTestUtils.setField(reactive, "metrics", new PresenceMetrics(new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(reactive, "callbackThreads", 2);
+        reactive.init();
+        ReflectionTestUtils.setField(store, "reactiveStore", reactive);
+        return reactive;
+    }
+}